@@ -0,0 +1,82 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-operation cost of ArrayDeque index wrapping with the
+ * default modulo path against power-of-two mode, where it is a bit mask.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArrayDequeIndexingBenchmark {
+
+    @Param({"modulo", "mask"})
+    private String indexing;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private ArrayDeque<Integer> deque;
+    private Integer value = 7;
+
+    /**
+     * Fills the deque so that front sits in the middle of the backing array
+     * and every operation has to wrap.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        deque = new ArrayDeque<>("mask".equals(indexing));
+        for (int i = 0; i < size / 2; i++) {
+            deque.addFirst(i);
+        }
+        for (int i = size / 2; i < size; i++) {
+            deque.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        deque.addLast(value);
+        return deque.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addFirstRemoveLast() {
+        deque.addFirst(value);
+        return deque.removeLast();
+    }
+
+    @Benchmark
+    public Integer addLastRemoveLast() {
+        deque.addLast(value);
+        return deque.removeLast();
+    }
+
+    @Benchmark
+    public void getLast(Blackhole bh) {
+        bh.consume(deque.getLast());
+    }
+}
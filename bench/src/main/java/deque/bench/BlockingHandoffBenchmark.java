@@ -0,0 +1,94 @@
+package deque.bench;
+
+import deque.BlockingArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer/consumer handoff through BlockingArrayDeque against
+ * java.util.concurrent.LinkedBlockingDeque. Sampled time per put and take
+ * gives the latency percentiles; a small capacity makes both sides block
+ * often.
+ *
+ * Timed operations are used so that a thread left waiting when the other
+ * side stops at the end of an iteration gives up instead of hanging.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BlockingHandoffBenchmark {
+
+    private static final Integer VALUE = 7;
+    private static final long WAIT_MILLIS = 100;
+
+    @Param({"1", "1024"})
+    private int capacity;
+
+    private BlockingArrayDeque<Integer> array;
+    private LinkedBlockingDeque<Integer> linked;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        array = new BlockingArrayDeque<>(capacity);
+        linked = new LinkedBlockingDeque<>(capacity);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        while (array.pollFirst() != null) {
+            // drop whatever the producer left behind
+        }
+        linked.clear();
+    }
+
+    @Benchmark
+    @Group("array")
+    @GroupThreads(1)
+    public boolean arrayPut() throws InterruptedException {
+        return array.offerLast(VALUE, WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("array")
+    @GroupThreads(1)
+    public Integer arrayTake() throws InterruptedException {
+        return array.pollFirst(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("linked")
+    @GroupThreads(1)
+    public boolean linkedPut() throws InterruptedException {
+        return linked.offerLast(VALUE, WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("linked")
+    @GroupThreads(1)
+    public Integer linkedTake() throws InterruptedException {
+        return linked.pollFirst(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,76 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares pushing a batch through ArrayDeque one element at a time against
+ * the bulk addAllLast/removeFirst(T[], int) operations.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BulkBenchmark {
+
+    @Param({"16", "1000", "100000"})
+    private int batch;
+
+    private ArrayDeque<Integer> deque;
+    private Integer[] elements;
+    private Integer[] out;
+
+    /**
+     * Creates the batch and a deque whose front sits mid-array so that the
+     * copies wrap around.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = new Integer[batch];
+        for (int i = 0; i < batch; i++) {
+            elements[i] = i;
+        }
+        out = new Integer[batch];
+        deque = new ArrayDeque<>();
+        deque.addAllLast(elements);
+        deque.addAllLast(elements);
+        deque.removeFirst(new Integer[2 * batch], batch + batch / 2);
+    }
+
+    @Benchmark
+    public Integer[] perElement() {
+        for (int i = 0; i < batch; i++) {
+            deque.addLast(elements[i]);
+        }
+        for (int i = 0; i < batch; i++) {
+            out[i] = deque.removeFirst();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public Integer[] bulk() {
+        deque.addAllLast(elements);
+        deque.removeFirst(out, batch);
+        return out;
+    }
+}
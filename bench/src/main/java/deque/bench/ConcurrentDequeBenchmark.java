@@ -0,0 +1,101 @@
+package deque.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput of the thread-safe deques against a LinkedDeque
+ * behind a single lock. Run main to sweep 1 to 32 threads; any other JMH
+ * command line options are passed through.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConcurrentDequeBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+    private static final Integer VALUE = 7;
+
+    @Param({"lockfree", "linked-synchronized"})
+    private String impl;
+
+    private DequeAdapter deque;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        deque = DequeAdapter.create(impl);
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+        }
+    }
+
+    /**
+     * Every thread uses the deque as a queue.
+     *
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer queue() {
+        deque.addLast(VALUE);
+        return deque.removeFirst();
+    }
+
+    /**
+     * Even threads work the front, odd threads the back.
+     *
+     * @param params the thread's parameters
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer splitEnds(ThreadParams params) {
+        if ((params.getThreadIndex() & 1) == 0) {
+            deque.addFirst(VALUE);
+            return deque.removeFirst();
+        } else {
+            deque.addLast(VALUE);
+            return deque.removeLast();
+        }
+    }
+
+    /**
+     * Runs the benchmark once per thread count.
+     *
+     * @param args JMH command line options
+     * @throws RunnerException            if a benchmark fails
+     * @throws CommandLineOptionException if args cannot be parsed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions parent = new CommandLineOptions(args);
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                .parent(parent)
+                .include(ConcurrentDequeBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()).run();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.ChunkedDeque;
+import deque.LinkedDeque;
+import deque.LockFreeLinkedDeque;
+
+/**
+ * Common view over the deque implementations so that the same benchmark
+ * workload can be driven against each of them.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+interface DequeAdapter {
+
+    void addFirst(Integer data);
+
+    void addLast(Integer data);
+
+    Integer removeFirst();
+
+    Integer removeLast();
+
+    Integer getFirst();
+
+    Integer getLast();
+
+    int size();
+
+    /**
+     * Creates an empty deque for the given implementation name.
+     *
+     * @param impl the implementation name used as a benchmark parameter
+     * @return a new, empty deque
+     * @throws java.lang.IllegalArgumentException if impl is not known
+     */
+    static DequeAdapter create(String impl) {
+        switch (impl) {
+            case "array":
+                return of(new ArrayDeque<>());
+            case "array-pow2":
+                return of(new ArrayDeque<>(true));
+            case "linked":
+                return of(new LinkedDeque<>());
+            case "linked-pooled":
+                return of(new LinkedDeque<>(1024));
+            case "chunked":
+                return of(new ChunkedDeque<>());
+            case "linked-synchronized":
+                return synchronizedView(of(new LinkedDeque<>()));
+            case "lockfree":
+                return of(new LockFreeLinkedDeque<>());
+            default:
+                throw new java.lang.IllegalArgumentException("unknown deque implementation: " + impl);
+        }
+    }
+
+    /**
+     * Wraps an ArrayDeque.
+     *
+     * @param deque the deque to wrap
+     * @return the adapter
+     */
+    static DequeAdapter of(ArrayDeque<Integer> deque) {
+        return new DequeAdapter() {
+            public void addFirst(Integer data) {
+                deque.addFirst(data);
+            }
+
+            public void addLast(Integer data) {
+                deque.addLast(data);
+            }
+
+            public Integer removeFirst() {
+                return deque.removeFirst();
+            }
+
+            public Integer removeLast() {
+                return deque.removeLast();
+            }
+
+            public Integer getFirst() {
+                return deque.getFirst();
+            }
+
+            public Integer getLast() {
+                return deque.getLast();
+            }
+
+            public int size() {
+                return deque.size();
+            }
+        };
+    }
+
+    /**
+     * Wraps a LinkedDeque.
+     *
+     * @param deque the deque to wrap
+     * @return the adapter
+     */
+    static DequeAdapter of(LinkedDeque<Integer> deque) {
+        return new DequeAdapter() {
+            public void addFirst(Integer data) {
+                deque.addFirst(data);
+            }
+
+            public void addLast(Integer data) {
+                deque.addLast(data);
+            }
+
+            public Integer removeFirst() {
+                return deque.removeFirst();
+            }
+
+            public Integer removeLast() {
+                return deque.removeLast();
+            }
+
+            public Integer getFirst() {
+                return deque.getFirst();
+            }
+
+            public Integer getLast() {
+                return deque.getLast();
+            }
+
+            public int size() {
+                return deque.size();
+            }
+        };
+    }
+
+    /**
+     * Wraps a ChunkedDeque.
+     *
+     * @param deque the deque to wrap
+     * @return the adapter
+     */
+    static DequeAdapter of(ChunkedDeque<Integer> deque) {
+        return new DequeAdapter() {
+            public void addFirst(Integer data) {
+                deque.addFirst(data);
+            }
+
+            public void addLast(Integer data) {
+                deque.addLast(data);
+            }
+
+            public Integer removeFirst() {
+                return deque.removeFirst();
+            }
+
+            public Integer removeLast() {
+                return deque.removeLast();
+            }
+
+            public Integer getFirst() {
+                return deque.getFirst();
+            }
+
+            public Integer getLast() {
+                return deque.getLast();
+            }
+
+            public int size() {
+                return deque.size();
+            }
+        };
+    }
+
+    /**
+     * Wraps a LockFreeLinkedDeque.
+     *
+     * @param deque the deque to wrap
+     * @return the adapter
+     */
+    static DequeAdapter of(LockFreeLinkedDeque<Integer> deque) {
+        return new DequeAdapter() {
+            public void addFirst(Integer data) {
+                deque.addFirst(data);
+            }
+
+            public void addLast(Integer data) {
+                deque.addLast(data);
+            }
+
+            public Integer removeFirst() {
+                return deque.removeFirst();
+            }
+
+            public Integer removeLast() {
+                return deque.removeLast();
+            }
+
+            public Integer getFirst() {
+                return deque.getFirst();
+            }
+
+            public Integer getLast() {
+                return deque.getLast();
+            }
+
+            public int size() {
+                return deque.size();
+            }
+        };
+    }
+
+    /**
+     * Makes every operation of an adapter hold a single lock, the baseline
+     * for the thread-safe deques.
+     *
+     * @param deque the adapter to guard
+     * @return the synchronized adapter
+     */
+    static DequeAdapter synchronizedView(DequeAdapter deque) {
+        return new DequeAdapter() {
+            public synchronized void addFirst(Integer data) {
+                deque.addFirst(data);
+            }
+
+            public synchronized void addLast(Integer data) {
+                deque.addLast(data);
+            }
+
+            public synchronized Integer removeFirst() {
+                return deque.removeFirst();
+            }
+
+            public synchronized Integer removeLast() {
+                return deque.removeLast();
+            }
+
+            public synchronized Integer getFirst() {
+                return deque.getFirst();
+            }
+
+            public synchronized Integer getLast() {
+                return deque.getLast();
+            }
+
+            public synchronized int size() {
+                return deque.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package deque.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing the deque implementations.
+ *
+ * Every workload starts from a deque pre-filled with {@code size} elements
+ * and keeps the size steady, so the numbers reflect the cost of a single
+ * operation at that size rather than the cost of growing to it. Throughput
+ * and sampled latency (with percentiles) are both reported. Run with
+ * {@code -prof gc} to get the allocation rate per operation.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DequeBenchmark {
+
+    private static final int CHURN_PATTERN_LENGTH = 1 << 12;
+
+    @Param({"array", "array-pow2", "linked", "linked-pooled", "chunked"})
+    private String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private DequeAdapter deque;
+    private boolean[] churnFront;
+    private boolean[] churnAdd;
+    private int churnIndex;
+    private int value;
+
+    /**
+     * Builds a deque holding size elements and a fixed random pattern for the
+     * churn workload.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        deque = DequeAdapter.create(impl);
+        for (int i = 0; i < size; i++) {
+            deque.addLast(i);
+        }
+        Random random = new Random(42);
+        churnFront = new boolean[CHURN_PATTERN_LENGTH];
+        churnAdd = new boolean[CHURN_PATTERN_LENGTH];
+        int balance = 0;
+        for (int i = 0; i < CHURN_PATTERN_LENGTH; i++) {
+            churnFront[i] = random.nextBoolean();
+            // keep the pattern balanced so the deque never drifts away from size
+            int remaining = CHURN_PATTERN_LENGTH - i;
+            boolean add = remaining > balance
+                && (balance == 0 || (balance < 8 && random.nextBoolean()));
+            churnAdd[i] = add;
+            balance += add ? 1 : -1;
+        }
+    }
+
+    /**
+     * Queue usage: add at the back, remove from the front.
+     *
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer fifo() {
+        deque.addLast(value++);
+        return deque.removeFirst();
+    }
+
+    /**
+     * Stack usage: add and remove at the back.
+     *
+     * @return the removed element
+     */
+    @Benchmark
+    public Integer lifo() {
+        deque.addLast(value++);
+        return deque.removeLast();
+    }
+
+    /**
+     * Alternates which end is added to and removed from on every call.
+     *
+     * @param bh sink for the removed elements
+     */
+    @Benchmark
+    public void alternating(Blackhole bh) {
+        deque.addFirst(value++);
+        bh.consume(deque.removeLast());
+        deque.addLast(value++);
+        bh.consume(deque.removeFirst());
+    }
+
+    /**
+     * Random mix of adds and removes at both ends around a steady size.
+     *
+     * @return the touched element
+     */
+    @Benchmark
+    public Integer churn() {
+        int i = churnIndex;
+        churnIndex = (i + 1) & (CHURN_PATTERN_LENGTH - 1);
+        if (churnAdd[i]) {
+            Integer data = value++;
+            if (churnFront[i]) {
+                deque.addFirst(data);
+            } else {
+                deque.addLast(data);
+            }
+            return data;
+        } else {
+            return churnFront[i] ? deque.removeFirst() : deque.removeLast();
+        }
+    }
+
+    /**
+     * Reads both ends without modifying the deque.
+     *
+     * @param bh sink for the read elements
+     */
+    @Benchmark
+    public void peek(Blackhole bh) {
+        bh.consume(deque.getFirst());
+        bh.consume(deque.getLast());
+    }
+}
@@ -0,0 +1,98 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.ByteBufferDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flushes a batch of small direct buffers to /dev/null, one write call per
+ * buffer out of an ArrayDeque against ByteBufferDeque.writeTo. Writing to
+ * /dev/null costs only the system call, so the gap is the number of calls.
+ * Needs a Unix-like system.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GatheringWriteBenchmark {
+
+    @Param({"8", "64", "512"})
+    private int batch;
+
+    @Param({"64"})
+    private int messageSize;
+
+    private ByteBuffer[] messages;
+    private FileChannel channel;
+    private final ArrayDeque<ByteBuffer> arrayDeque = new ArrayDeque<>(true);
+    private final ByteBufferDeque bufferDeque = new ByteBufferDeque();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        channel = FileChannel.open(Paths.get("/dev/null"), StandardOpenOption.WRITE);
+        messages = new ByteBuffer[batch];
+        for (int i = 0; i < batch; i++) {
+            messages[i] = ByteBuffer.allocateDirect(messageSize);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        channel.close();
+    }
+
+    @Benchmark
+    public long writeEach() throws IOException {
+        for (ByteBuffer message : messages) {
+            message.clear();
+            arrayDeque.addLast(message);
+        }
+        long written = 0;
+        while (arrayDeque.size() > 0) {
+            ByteBuffer head = arrayDeque.getFirst();
+            written += channel.write(head);
+            if (!head.hasRemaining()) {
+                arrayDeque.removeFirst();
+            }
+        }
+        return written;
+    }
+
+    @Benchmark
+    public long writeGathering() throws IOException {
+        for (ByteBuffer message : messages) {
+            message.clear();
+            bufferDeque.addLast(message);
+        }
+        long written = 0;
+        while (bufferDeque.size() > 0) {
+            written += bufferDeque.writeTo(channel);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,107 @@
+package deque.bench;
+
+import deque.LinkedDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexed access on LinkedDeque, with its finger cache, against
+ * java.util.LinkedList, which only walks from the nearer end. Sequential
+ * gets step through the positions in order, random gets jump around, and
+ * insertRemove edits at a slowly advancing position.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LinkedIndexBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private LinkedDeque<Integer> deque;
+    private LinkedList<Integer> list;
+    private int[] randomIndices;
+    private int next;
+    private Integer value = 7;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        deque = new LinkedDeque<>(16);
+        list = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            deque.addLast(i);
+            list.addLast(i);
+        }
+        java.util.Random random = new java.util.Random(42);
+        randomIndices = new int[1024];
+        for (int i = 0; i < randomIndices.length; i++) {
+            randomIndices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Integer dequeSequentialGet() {
+        return deque.get(nextSequential());
+    }
+
+    @Benchmark
+    public Integer listSequentialGet() {
+        return list.get(nextSequential());
+    }
+
+    @Benchmark
+    public Integer dequeRandomGet() {
+        return deque.get(randomIndices[next++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer listRandomGet() {
+        return list.get(randomIndices[next++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer dequeInsertRemove() {
+        int index = nextSequential();
+        deque.insert(index, value);
+        return deque.remove(index);
+    }
+
+    @Benchmark
+    public Integer listInsertRemove() {
+        int index = nextSequential();
+        list.add(index, value);
+        return list.remove(index);
+    }
+
+    /**
+     * Returns the next position in order, wrapping at the end.
+     *
+     * @return the position
+     */
+    private int nextSequential() {
+        if (++next >= size) {
+            next = 0;
+        }
+        return next;
+    }
+}
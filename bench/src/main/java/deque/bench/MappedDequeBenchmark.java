@@ -0,0 +1,101 @@
+package deque.bench;
+
+import deque.MappedArrayDeque;
+import deque.OffHeapArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append and consume throughput of MappedArrayDeque. forceInterval 0 never
+ * forces during the measurement and shows the cost of the mapped writes
+ * alone; 1 forces on every operation and 256 forces in batches. Set
+ * {@code -Djava.io.tmpdir} to put the file on the device under test.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MappedDequeBenchmark {
+
+    private static final OffHeapArrayDeque.RecordCodec<Long> LONGS =
+        new OffHeapArrayDeque.RecordCodec<Long>() {
+            @Override
+            public int recordSize() {
+                return 8;
+            }
+
+            @Override
+            public void encode(Long record, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, record);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+
+    @Param({"0", "1", "256"})
+    private int forceInterval;
+
+    private Path file;
+    private MappedArrayDeque<Long> deque;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("deque-bench", ".dat");
+        Files.delete(file);
+        deque = new MappedArrayDeque<>(file, LONGS, 1 << 20, forceInterval);
+        for (int i = 0; i < 1024; i++) {
+            deque.addLast(next++);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        deque.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long appendConsume() {
+        deque.addLast(next++);
+        return deque.removeFirst();
+    }
+
+    @Benchmark
+    public long appendConsumeBatch() {
+        for (int i = 0; i < 64; i++) {
+            deque.addLast(next++);
+        }
+        long sum = 0;
+        for (int i = 0; i < 64; i++) {
+            sum += deque.removeFirst();
+        }
+        return sum;
+    }
+}
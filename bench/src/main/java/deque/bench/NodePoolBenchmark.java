@@ -0,0 +1,77 @@
+package deque.bench;
+
+import deque.LinkedDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state churn on a LinkedDeque with and without node pooling. Run
+ * with {@code -prof gc}: with a pool, gc.alloc.rate.norm should drop to
+ * about 0 bytes per operation.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NodePoolBenchmark {
+
+    private static final Integer VALUE = 7;
+
+    @Param({"0", "64"})
+    private int poolCapacity;
+
+    @Param({"1000"})
+    private int size;
+
+    private LinkedDeque<Integer> deque;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        deque = new LinkedDeque<>(poolCapacity);
+        for (int i = 0; i < size; i++) {
+            deque.addLast(VALUE);
+        }
+    }
+
+    @Benchmark
+    public Integer fifo() {
+        deque.addLast(VALUE);
+        return deque.removeFirst();
+    }
+
+    @Benchmark
+    public Integer lifo() {
+        deque.addFirst(VALUE);
+        return deque.removeFirst();
+    }
+
+    @Benchmark
+    public Integer burst() {
+        for (int i = 0; i < 32; i++) {
+            deque.addLast(VALUE);
+        }
+        Integer last = null;
+        for (int i = 0; i < 32; i++) {
+            last = deque.removeLast();
+        }
+        return last;
+    }
+}
@@ -0,0 +1,111 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.OffHeapArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares an ArrayDeque of small heap records with OffHeapArrayDeque, both
+ * through the codec and through in-place field access. Run with
+ * {@code -prof gc}: with millions of retained records the heap deque pays
+ * for them on every old generation collection, the off-heap one does not.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OffHeapDequeBenchmark {
+
+    private static final OffHeapArrayDeque.RecordCodec<Tick> CODEC =
+        new OffHeapArrayDeque.RecordCodec<Tick>() {
+            @Override
+            public int recordSize() {
+                return 16;
+            }
+
+            @Override
+            public void encode(Tick record, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, record.timestamp);
+                buffer.putLong(offset + 8, record.price);
+            }
+
+            @Override
+            public Tick decode(ByteBuffer buffer, int offset) {
+                return new Tick(buffer.getLong(offset), buffer.getLong(offset + 8));
+            }
+        };
+
+    @Param({"1000", "4000000"})
+    private int size;
+
+    private ArrayDeque<Tick> heap;
+    private OffHeapArrayDeque<Tick> offHeap;
+    private long timestamp;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        heap = new ArrayDeque<>(true);
+        offHeap = new OffHeapArrayDeque<>(CODEC);
+        for (int i = 0; i < size; i++) {
+            heap.addLast(new Tick(timestamp, i));
+            offHeap.addLast(new Tick(timestamp, i));
+            timestamp++;
+        }
+    }
+
+    @Benchmark
+    public long heapFifo() {
+        heap.addLast(new Tick(timestamp++, 42));
+        return heap.removeFirst().price;
+    }
+
+    @Benchmark
+    public long offHeapCodecFifo() {
+        offHeap.addLast(new Tick(timestamp++, 42));
+        return offHeap.removeFirst().price;
+    }
+
+    @Benchmark
+    public long offHeapInPlaceFifo() {
+        int offset = offHeap.claimLast();
+        ByteBuffer buffer = offHeap.getBuffer();
+        buffer.putLong(offset, timestamp++);
+        buffer.putLong(offset + 8, 42);
+        long price = buffer.getLong(offHeap.firstOffset() + 8);
+        offHeap.dropFirst();
+        return price;
+    }
+
+    /**
+     * A market tick.
+     */
+    private static final class Tick {
+        private final long timestamp;
+        private final long price;
+
+        Tick(long timestamp, long price) {
+            this.timestamp = timestamp;
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.LinkedDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A consumer polling empty deques, through pollFirst/peekFirst and through
+ * removeFirst/getFirst with the exception caught, and one offer/poll
+ * round trip on each deque. Run with {@code -prof gc}: the poll, peek and
+ * offer/poll benchmarks should show 0 B/op on ArrayDeque and on a pooled
+ * LinkedDeque, while the throwing ones allocate an exception and its stack
+ * trace every time.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PollBenchmark {
+
+    private final ArrayDeque<Integer> emptyArray = new ArrayDeque<>(true);
+    private final LinkedDeque<Integer> emptyLinked = new LinkedDeque<>();
+    private final ArrayDeque<Integer> array = new ArrayDeque<>(true);
+    private final LinkedDeque<Integer> linked = new LinkedDeque<>(16);
+    private final Integer value = 7;
+
+    @Benchmark
+    public Integer arrayPollEmpty() {
+        return emptyArray.pollFirst();
+    }
+
+    @Benchmark
+    public Integer arrayPeekEmpty() {
+        return emptyArray.peekLast();
+    }
+
+    @Benchmark
+    public Integer arrayRemoveEmpty() {
+        try {
+            return emptyArray.removeFirst();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Integer linkedPollEmpty() {
+        return emptyLinked.pollFirst();
+    }
+
+    @Benchmark
+    public Integer linkedGetEmpty() {
+        try {
+            return emptyLinked.getFirst();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Integer arrayOfferPoll() {
+        array.offerLast(value);
+        return array.pollFirst();
+    }
+
+    @Benchmark
+    public Integer linkedOfferPoll() {
+        linked.offerLast(value);
+        return linked.pollFirst();
+    }
+}
@@ -0,0 +1,109 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.LongArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ArrayDeque&lt;Long&gt; with LongArrayDeque. Run with
+ * {@code -prof gc}: the boxed deque allocates a Long per add for values
+ * outside the Long cache, the primitive one nothing. The fill benchmark
+ * also shows the footprint difference, 8 bytes per slot for long[] against
+ * a reference plus a 16 byte Long for the boxed deque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PrimitiveDequeBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private ArrayDeque<Long> boxed;
+    private LongArrayDeque primitive;
+    private long timestamp = 1L << 40;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        boxed = new ArrayDeque<>(true);
+        primitive = new LongArrayDeque();
+        for (int i = 0; i < size; i++) {
+            boxed.addLast(timestamp + i);
+            primitive.addLast(timestamp + i);
+        }
+    }
+
+    @Benchmark
+    public long boxedFifo() {
+        boxed.addLast(timestamp++);
+        return boxed.removeFirst();
+    }
+
+    @Benchmark
+    public long primitiveFifo() {
+        primitive.addLast(timestamp++);
+        return primitive.removeFirst();
+    }
+
+    @Benchmark
+    public long boxedRotate() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            long value = boxed.removeFirst();
+            sum += value;
+            boxed.addLast(value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveRotate() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            long value = primitive.removeFirst();
+            sum += value;
+            primitive.addLast(value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public ArrayDeque<Long> boxedFill() {
+        ArrayDeque<Long> deque = new ArrayDeque<>(true);
+        for (int i = 0; i < size; i++) {
+            deque.addLast(timestamp + i);
+        }
+        return deque;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public LongArrayDeque primitiveFill() {
+        LongArrayDeque deque = new LongArrayDeque();
+        for (int i = 0; i < size; i++) {
+            deque.addLast(timestamp + i);
+        }
+        return deque;
+    }
+}
@@ -0,0 +1,186 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.LinkedDeque;
+import deque.StampedDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Mixed peeks and writes on a shared deque: StampedDeque around both
+ * implementations against an ArrayDeque behind a monitor and behind a
+ * ReentrantReadWriteLock. Each operation is a read (peekFirst, peekLast and
+ * size) with probability readPercent, and otherwise a write (addLast then
+ * pollFirst). Run main to sweep 1 to 32 threads; any other JMH command line
+ * options are passed through.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReadMostlyBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+    private static final Integer VALUE = 7;
+
+    @Param({"stamped-array", "stamped-linked", "synchronized-array", "rwlock-array"})
+    private String impl;
+
+    @Param({"95", "50"})
+    private int readPercent;
+
+    private Shared deque;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (impl) {
+            case "stamped-array":
+                deque = of(new StampedDeque<>(filled(new ArrayDeque<>(true))));
+                break;
+            case "stamped-linked":
+                deque = of(new StampedDeque<>(filled(new LinkedDeque<>(1024))));
+                break;
+            case "synchronized-array":
+                ArrayDeque<Integer> monitored = filled(new ArrayDeque<>(true));
+                deque = new Shared() {
+                    public synchronized int read() {
+                        return monitored.peekFirst() + monitored.peekLast() + monitored.size();
+                    }
+
+                    public synchronized Integer write() {
+                        monitored.addLast(VALUE);
+                        return monitored.pollFirst();
+                    }
+                };
+                break;
+            case "rwlock-array":
+                ArrayDeque<Integer> locked = filled(new ArrayDeque<>(true));
+                ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+                deque = new Shared() {
+                    public int read() {
+                        lock.readLock().lock();
+                        try {
+                            return locked.peekFirst() + locked.peekLast() + locked.size();
+                        } finally {
+                            lock.readLock().unlock();
+                        }
+                    }
+
+                    public Integer write() {
+                        lock.writeLock().lock();
+                        try {
+                            locked.addLast(VALUE);
+                            return locked.pollFirst();
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                    }
+                };
+                break;
+            default:
+                throw new java.lang.IllegalArgumentException("unknown deque implementation: " + impl);
+        }
+    }
+
+    /**
+     * One read or one write, chosen at random with the configured mix. The
+     * deque never becomes empty, since every write adds before it polls.
+     *
+     * @return the read or written value
+     */
+    @Benchmark
+    public int mixed() {
+        if (ThreadLocalRandom.current().nextInt(100) < readPercent) {
+            return deque.read();
+        } else {
+            return deque.write();
+        }
+    }
+
+    /**
+     * Runs the benchmark once per thread count.
+     *
+     * @param args JMH command line options
+     * @throws RunnerException            if a benchmark fails
+     * @throws CommandLineOptionException if args cannot be parsed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions parent = new CommandLineOptions(args);
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                .parent(parent)
+                .include(ReadMostlyBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()).run();
+        }
+    }
+
+    /**
+     * Adds 1000 elements to a deque before it is shared.
+     *
+     * @param deque the deque to fill
+     * @param <D>   the type of the deque
+     * @return the deque
+     */
+    private static <D extends Deque<Integer>> D filled(D deque) {
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+        }
+        return deque;
+    }
+
+    /**
+     * Wraps a StampedDeque.
+     *
+     * @param stamped the deque to wrap
+     * @return the shared view
+     */
+    private static Shared of(StampedDeque<Integer> stamped) {
+        return new Shared() {
+            public int read() {
+                return stamped.peekFirst() + stamped.peekLast() + stamped.size();
+            }
+
+            public Integer write() {
+                stamped.addLast(VALUE);
+                return stamped.pollFirst();
+            }
+        };
+    }
+
+    /**
+     * The read and the write the workload mixes.
+     */
+    private interface Shared {
+
+        int read();
+
+        Integer write();
+    }
+}
@@ -0,0 +1,73 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling an empty ArrayDeque to a given size, which is dominated
+ * by the resize copies, under each growth policy and with pre-sizing.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ResizeBenchmark {
+
+    private static final Integer VALUE = 7;
+
+    @Param({"100000", "10000000"})
+    private int size;
+
+    @Param({"doubling", "oneAndAHalf"})
+    private String policy;
+
+    private ArrayDeque<Integer> newDeque() {
+        return new ArrayDeque<>("doubling".equals(policy)
+            ? ArrayDeque.GrowthPolicy.DOUBLING : ArrayDeque.GrowthPolicy.ONE_AND_A_HALF);
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> fillAddLast() {
+        ArrayDeque<Integer> deque = newDeque();
+        for (int i = 0; i < size; i++) {
+            deque.addLast(VALUE);
+        }
+        return deque;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> fillAddFirst() {
+        ArrayDeque<Integer> deque = newDeque();
+        for (int i = 0; i < size; i++) {
+            deque.addFirst(VALUE);
+        }
+        return deque;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> fillPresized() {
+        ArrayDeque<Integer> deque = newDeque();
+        deque.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            deque.addLast(VALUE);
+        }
+        return deque;
+    }
+}
@@ -0,0 +1,83 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes a burst through an ArrayDeque and drains it back down to a small
+ * resident size, reporting the backing array slots still retained afterwards
+ * with and without shrinking, and after an explicit trimToSize.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ShrinkBenchmark {
+
+    private static final Integer VALUE = 7;
+
+    @Param({"1000000", "16000000"})
+    private int burst;
+
+    @Param({"500"})
+    private int resident;
+
+    @Param({"none", "shrink", "trim"})
+    private String reclaim;
+
+    /**
+     * Retained capacity after each burst, reported next to the timing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retained {
+        public long retainedSlots;
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedSlots = 0;
+            retainedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> burstThenDrain(Retained retained) {
+        ArrayDeque<Integer> deque = new ArrayDeque<>(true);
+        deque.setShrinkOnUnderflow("shrink".equals(reclaim));
+        for (int i = 0; i < burst; i++) {
+            deque.addLast(VALUE);
+        }
+        while (deque.size() > resident) {
+            deque.removeFirst();
+        }
+        if ("trim".equals(reclaim)) {
+            deque.trimToSize();
+        }
+        Object[] backing = deque.getBackingArray();
+        retained.retainedSlots = backing.length;
+        // assumes compressed oops: 4 bytes per slot plus a 16 byte header
+        retained.retainedBytes = 16L + 4L * backing.length;
+        return deque;
+    }
+}
@@ -0,0 +1,128 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.DequeSnapshot;
+import deque.LinkedDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot and restore throughput of DequeSnapshot on 10 million Integers,
+ * with Java serialization of a java.util.ArrayDeque as the baseline. Each
+ * operation moves the whole deque, so the score is the time per snapshot.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class SnapshotBenchmark {
+
+    @Param({"10000000"})
+    private int size;
+
+    private ArrayDeque<Integer> array;
+    private LinkedDeque<Integer> linked;
+    private java.util.ArrayDeque<Integer> jdk;
+    private byte[] snapshot;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        array = new ArrayDeque<>();
+        linked = new LinkedDeque<>();
+        jdk = new java.util.ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            array.addLast(i);
+            linked.addLast(i);
+            jdk.addLast(i);
+        }
+        snapshot = writeArray();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(bytes))) {
+            out.writeObject(jdk);
+        }
+        serialized = bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeArray() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 4 + 8);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(bytes, 1 << 16));
+        DequeSnapshot.write(array, DequeSnapshot.INTEGERS, out, false);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeLinked() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 4 + 8);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(bytes, 1 << 16));
+        DequeSnapshot.write(linked, DequeSnapshot.INTEGERS, out, false);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> readArray() throws IOException {
+        return DequeSnapshot.readArrayDeque(DequeSnapshot.INTEGERS, input(snapshot), false);
+    }
+
+    @Benchmark
+    public LinkedDeque<Integer> readLinked() throws IOException {
+        return DequeSnapshot.readLinkedDeque(DequeSnapshot.INTEGERS, input(snapshot), false);
+    }
+
+    @Benchmark
+    public byte[] serializeJdk() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(serialized.length);
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(bytes, 1 << 16))) {
+            out.writeObject(jdk);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object deserializeJdk() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+            new BufferedInputStream(new ByteArrayInputStream(serialized), 1 << 16))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * Returns a buffered input over bytes.
+     *
+     * @param bytes the bytes to read
+     * @return the input
+     */
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new BufferedInputStream(new ByteArrayInputStream(bytes), 1 << 16));
+    }
+}
@@ -0,0 +1,106 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.SpscRingBuffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One producer and one consumer thread passing elements through an
+ * SpscRingBuffer, one at a time and in batches, against a locked ArrayDeque.
+ * Failed offers and polls are counted as operations too, so compare the
+ * producer and consumer rows rather than the group total.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SpscBenchmark {
+
+    private static final int CAPACITY = 1 << 14;
+    private static final int BATCH = 64;
+    private static final Integer VALUE = 7;
+
+    private SpscRingBuffer<Integer> ring;
+    private ArrayDeque<Integer> locked;
+    private Integer[] producerBatch;
+    private Integer[] consumerBatch;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        ring = new SpscRingBuffer<>(CAPACITY);
+        locked = new ArrayDeque<>(true);
+        producerBatch = new Integer[BATCH];
+        java.util.Arrays.fill(producerBatch, VALUE);
+        consumerBatch = new Integer[BATCH];
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public boolean ringOffer() {
+        return ring.offer(VALUE);
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public Integer ringPoll() {
+        return ring.poll();
+    }
+
+    @Benchmark
+    @Group("ringBatch")
+    @GroupThreads(1)
+    public int ringOfferBatch() {
+        return ring.offerBatch(producerBatch, 0, BATCH);
+    }
+
+    @Benchmark
+    @Group("ringBatch")
+    @GroupThreads(1)
+    public int ringPollBatch() {
+        return ring.pollBatch(consumerBatch, 0, BATCH);
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public boolean lockedOffer() {
+        synchronized (locked) {
+            if (locked.size() == CAPACITY) {
+                return false;
+            }
+            locked.addLast(VALUE);
+            return true;
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public Integer lockedPoll() {
+        synchronized (locked) {
+            return locked.size() == 0 ? null : locked.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of DequeStats on the ArrayDeque hot path. "off" should match
+ * DequeBenchmark's array numbers from before stats existed, within noise,
+ * since all it adds is a null check; "on" shows the cost of the counters.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class StatsOverheadBenchmark {
+
+    @Param({"off", "on"})
+    private String stats;
+
+    private ArrayDeque<Integer> deque;
+    private Integer value = 7;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        deque = new ArrayDeque<>(true);
+        if ("on".equals(stats)) {
+            deque.enableStats();
+        }
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        deque.addLast(value);
+        return deque.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addFirstRemoveLast() {
+        deque.addFirst(value);
+        return deque.removeLast();
+    }
+
+    /**
+     * Grows a fresh deque to 1024 elements, which also exercises the resize
+     * counters.
+     *
+     * @return the filled deque
+     */
+    @Benchmark
+    public ArrayDeque<Integer> fill() {
+        ArrayDeque<Integer> fresh = new ArrayDeque<>(true);
+        if ("on".equals(stats)) {
+            fresh.enableStats();
+        }
+        for (int i = 0; i < 1024; i++) {
+            fresh.addLast(value);
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,73 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+import deque.LinkedDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums a deque with a sequential and a parallel stream. ArrayDeque splits its
+ * range in half without copying; LinkedDeque hands off copied batches, so
+ * its parallel speedup is lower and shows the cost of the walk.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StreamBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private ArrayDeque<Integer> array;
+    private LinkedDeque<Integer> linked;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        array = new ArrayDeque<>(true);
+        linked = new LinkedDeque<>();
+        for (int i = 0; i < size; i++) {
+            // start mid-array so the array deque wraps around
+            array.addFirst(i);
+            linked.addFirst(i);
+        }
+    }
+
+    @Benchmark
+    public long arraySequential() {
+        return array.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long arrayParallel() {
+        return array.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long linkedSequential() {
+        return linked.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long linkedParallel() {
+        return linked.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,156 @@
+package deque.bench;
+
+import deque.LockFreeLinkedDeque;
+import deque.StripedDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded queue throughput of StripedDeque, with and without
+ * balancing, against ConcurrentLinkedDeque and LockFreeLinkedDeque. Run main
+ * to sweep 1 to 64 threads; any other JMH command line options are passed
+ * through.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StripedDequeBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    private static final Integer VALUE = 7;
+
+    @Param({"striped", "striped-balanced", "jdk-concurrent", "lockfree"})
+    private String impl;
+
+    private Queue queue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (impl) {
+            case "striped":
+                queue = of(new StripedDeque<>());
+                break;
+            case "striped-balanced":
+                queue = of(new StripedDeque<>(Runtime.getRuntime().availableProcessors(), true));
+                break;
+            case "jdk-concurrent":
+                ConcurrentLinkedDeque<Integer> jdk = new ConcurrentLinkedDeque<>();
+                queue = new Queue() {
+                    public void offer(Integer data) {
+                        jdk.offerLast(data);
+                    }
+
+                    public Integer poll() {
+                        return jdk.pollFirst();
+                    }
+                };
+                break;
+            case "lockfree":
+                LockFreeLinkedDeque<Integer> lockFree = new LockFreeLinkedDeque<>();
+                queue = new Queue() {
+                    public void offer(Integer data) {
+                        lockFree.addLast(data);
+                    }
+
+                    public Integer poll() {
+                        try {
+                            return lockFree.removeFirst();
+                        } catch (NoSuchElementException e) {
+                            return null;
+                        }
+                    }
+                };
+                break;
+            default:
+                throw new java.lang.IllegalArgumentException("unknown deque implementation: " + impl);
+        }
+        for (int i = 0; i < 1000; i++) {
+            queue.offer(i);
+        }
+    }
+
+    /**
+     * Every thread adds one element and polls one. A striped deque keeps
+     * each uncontended thread on its own lane, so this shows how far lanes
+     * cut contention as threads are added.
+     *
+     * @return the polled element
+     */
+    @Benchmark
+    public Integer offerPoll() {
+        queue.offer(VALUE);
+        return queue.poll();
+    }
+
+    /**
+     * Runs the benchmark once per thread count.
+     *
+     * @param args JMH command line options
+     * @throws RunnerException            if a benchmark fails
+     * @throws CommandLineOptionException if args cannot be parsed
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions parent = new CommandLineOptions(args);
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                .parent(parent)
+                .include(StripedDequeBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()).run();
+        }
+    }
+
+    /**
+     * Wraps a StripedDeque.
+     *
+     * @param deque the deque to wrap
+     * @return the queue view
+     */
+    private static Queue of(StripedDeque<Integer> deque) {
+        return new Queue() {
+            public void offer(Integer data) {
+                deque.addLast(data);
+            }
+
+            public Integer poll() {
+                return deque.pollFirst();
+            }
+        };
+    }
+
+    /**
+     * The queue operations the workloads use.
+     */
+    private interface Queue {
+
+        void offer(Integer data);
+
+        Integer poll();
+    }
+}
@@ -0,0 +1,82 @@
+package deque.bench;
+
+import deque.AggregatingLongDeque;
+import deque.LongArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slides a window of the given width over a stream of values and reads its
+ * min, max and sum after every step, once by rescanning a LongArrayDeque
+ * and once with AggregatingLongDeque. The rescan costs O(width) per step,
+ * the aggregating deque amortized O(1).
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WindowAggregateBenchmark {
+
+    @Param({"16", "1024", "65536"})
+    private int width;
+
+    private LongArrayDeque plain;
+    private AggregatingLongDeque aggregating;
+    private long[] values;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        java.util.Random random = new java.util.Random(42);
+        values = new long[4096];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000000);
+        }
+        plain = new LongArrayDeque();
+        aggregating = new AggregatingLongDeque();
+        for (int i = 0; i < width; i++) {
+            plain.addLast(values[i & 4095]);
+            aggregating.addLast(values[i & 4095]);
+        }
+    }
+
+    @Benchmark
+    public long rescan() {
+        plain.addLast(values[next++ & 4095]);
+        plain.removeFirst();
+        long[] min = {Long.MAX_VALUE};
+        long[] max = {Long.MIN_VALUE};
+        long[] sum = {0};
+        plain.forEach(value -> {
+            min[0] = Math.min(min[0], value);
+            max[0] = Math.max(max[0], value);
+            sum[0] += value;
+        });
+        return min[0] + max[0] + sum[0];
+    }
+
+    @Benchmark
+    public long aggregating() {
+        aggregating.addLast(values[next++ & 4095]);
+        aggregating.removeFirst();
+        return aggregating.getMin() + aggregating.getMax() + aggregating.getSum();
+    }
+}
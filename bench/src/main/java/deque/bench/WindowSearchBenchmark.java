@@ -0,0 +1,94 @@
+package deque.bench;
+
+import deque.ArrayDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up timestamps in a time-ordered ArrayDeque window that wraps around
+ * its backing array. binarySearch picks one physical run and searches it
+ * directly; the get-based search goes through get(i), wrapping every probe,
+ * which is what callers had to write before.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WindowSearchBenchmark {
+
+    @Param({"false", "true"})
+    private boolean powerOfTwo;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private ArrayDeque<Long> window;
+    private long[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        window = new ArrayDeque<>(powerOfTwo);
+        window.ensureCapacity(size + 1);
+        // slide the window half way so it wraps
+        for (long t = 0; t < size + size / 2; t++) {
+            window.addLast(t * 10);
+            if (window.size() > size) {
+                window.removeFirst();
+            }
+        }
+        java.util.Random random = new java.util.Random(42);
+        keys = new long[1024];
+        long first = window.getFirst();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = first + random.nextInt(size * 10);
+        }
+    }
+
+    @Benchmark
+    public int splitBinarySearch() {
+        return window.binarySearch(keys[next++ & 1023]);
+    }
+
+    @Benchmark
+    public int getBinarySearch() {
+        long key = keys[next++ & 1023];
+        int low = 0;
+        int high = window.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = window.get(mid);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @Benchmark
+    public long randomGet() {
+        return window.get((int) (keys[next++ & 1023] % size));
+    }
+}
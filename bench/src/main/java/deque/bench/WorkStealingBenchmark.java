@@ -0,0 +1,152 @@
+package deque.bench;
+
+import deque.WorkStealingDeque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A small fork/join style executor built on WorkStealingDeque, run at
+ * several worker counts to show how it scales across cores.
+ *
+ * Each invocation runs a binary tree of tasks: inner tasks push their two
+ * children on their worker's deque, leaves burn a fixed amount of CPU. Idle
+ * workers steal from a random victim.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkStealingBenchmark {
+
+    private static final long LEAF_WORK = 1000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int workers;
+
+    @Param({"16"})
+    private int depth;
+
+    private Pool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = new Pool(workers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void taskTree() {
+        pool.run(depth);
+    }
+
+    /**
+     * A fixed set of workers, each owning one WorkStealingDeque of task
+     * depths.
+     */
+    private static final class Pool {
+        private final Thread[] threads;
+        private final WorkStealingDeque<Integer>[] deques;
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean running = true;
+        private volatile int seed = -1;
+        private volatile Thread caller;
+
+        Pool(int workers) {
+            threads = new Thread[workers];
+            // generic arrays cannot be created directly, and this one only
+            // ever holds WorkStealingDeque<Integer>
+            @SuppressWarnings("unchecked")
+            WorkStealingDeque<Integer>[] created = (WorkStealingDeque<Integer>[]) new WorkStealingDeque<?>[workers];
+            deques = created;
+            for (int i = 0; i < workers; i++) {
+                deques[i] = new WorkStealingDeque<>();
+            }
+            for (int i = 0; i < workers; i++) {
+                int id = i;
+                threads[i] = new Thread(() -> work(id));
+                threads[i].setDaemon(true);
+                threads[i].start();
+            }
+        }
+
+        /**
+         * Runs a task tree of the given depth and waits for all of it.
+         *
+         * @param depth the depth of the tree
+         */
+        void run(int depth) {
+            caller = Thread.currentThread();
+            pending.set(1);
+            seed = depth;
+            while (pending.get() != 0) {
+                LockSupport.park(this);
+            }
+        }
+
+        void shutdown() throws InterruptedException {
+            running = false;
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        private void work(int id) {
+            WorkStealingDeque<Integer> own = deques[id];
+            while (running) {
+                Integer task = own.pollLast();
+                if (task == null && id == 0 && seed >= 0) {
+                    task = seed;
+                    seed = -1;
+                }
+                if (task == null) {
+                    task = deques[ThreadLocalRandom.current().nextInt(deques.length)].stealFirst();
+                }
+                if (task == null) {
+                    Thread.onSpinWait();
+                } else {
+                    execute(own, task);
+                }
+            }
+        }
+
+        private void execute(WorkStealingDeque<Integer> own, int depth) {
+            if (depth == 0) {
+                Blackhole.consumeCPU(LEAF_WORK);
+            } else {
+                pending.addAndGet(2);
+                own.addLast(depth - 1);
+                own.addLast(depth - 1);
+            }
+            if (pending.decrementAndGet() == 0) {
+                LockSupport.unpark(caller);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package deque;
+
+/**
+ * An ArrayDeque for sliding windows that keeps the window's minimum and
+ * maximum up to date as elements enter at the back and leave at the front.
+ *
+ * Next to the elements it keeps two monotonic ArrayDeques of candidates:
+ * the elements that could still become the minimum, in increasing order,
+ * and those that could still become the maximum, in decreasing order. An
+ * element is added to each candidate deque once and removed at most once,
+ * so every operation is amortized O(1) and getMin and getMax are O(1),
+ * instead of rescanning the window.
+ *
+ * Running sums need numbers; see AggregatingLongDeque and
+ * AggregatingDoubleDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class AggregatingArrayDeque<T> {
+
+    private final java.util.Comparator<? super T> comparator;
+    private final ArrayDeque<T> elements = new ArrayDeque<>(true);
+    private final ArrayDeque<T> minCandidates = new ArrayDeque<>(true);
+    private final ArrayDeque<T> maxCandidates = new ArrayDeque<>(true);
+
+    /**
+     * Constructs a new AggregatingArrayDeque ordered by the comparator.
+     *
+     * @param comparator the order used for the minimum and maximum
+     * @throws java.lang.IllegalArgumentException if comparator is null
+     */
+    public AggregatingArrayDeque(java.util.Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new java.lang.IllegalArgumentException("cannot use a null comparator");
+        }
+        this.comparator = comparator;
+    }
+
+    /**
+     * Adds the element to the back of the window.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the window
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        elements.addLast(data);
+        while (minCandidates.size() > 0 && comparator.compare(minCandidates.getLast(), data) > 0) {
+            minCandidates.removeLast();
+        }
+        minCandidates.addLast(data);
+        while (maxCandidates.size() > 0 && comparator.compare(maxCandidates.getLast(), data) < 0) {
+            maxCandidates.removeLast();
+        }
+        maxCandidates.addLast(data);
+    }
+
+    /**
+     * Removes and returns the first element of the window.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public T removeFirst() {
+        T data = elements.removeFirst();
+        // A candidate that compares equal is this element or an equal one
+        // added after it; either way one copy leaves.
+        if (comparator.compare(minCandidates.getFirst(), data) == 0) {
+            minCandidates.removeFirst();
+        }
+        if (comparator.compare(maxCandidates.getFirst(), data) == 0) {
+            maxCandidates.removeFirst();
+        }
+        return data;
+    }
+
+    /**
+     * Returns the first element of the window without removing it.
+     *
+     * @return the first data
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public T getFirst() {
+        return elements.getFirst();
+    }
+
+    /**
+     * Returns the last element of the window without removing it.
+     *
+     * @return the last data
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public T getLast() {
+        return elements.getLast();
+    }
+
+    /**
+     * Returns the smallest element in the window, the earliest one if
+     * several compare equal.
+     *
+     * Must be O(1).
+     *
+     * @return the minimum of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public T getMin() {
+        return minCandidates.getFirst();
+    }
+
+    /**
+     * Returns the largest element in the window, the earliest one if
+     * several compare equal.
+     *
+     * Must be O(1).
+     *
+     * @return the maximum of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public T getMax() {
+        return maxCandidates.getFirst();
+    }
+
+    /**
+     * Returns the number of elements in the window.
+     *
+     * @return the size of the window
+     */
+    public int size() {
+        return elements.size();
+    }
+}
@@ -0,0 +1,174 @@
+package deque;
+
+/**
+ * A DoubleArrayDeque for sliding windows that keeps the window's minimum,
+ * maximum, sum, count and mean up to date as values enter at the back and
+ * leave at the front.
+ *
+ * The minimum and maximum come from monotonic candidate deques, as in
+ * AggregatingArrayDeque, and the sum is adjusted on every add and remove,
+ * so every operation is amortized O(1) and every aggregate is O(1).
+ *
+ * Adding and subtracting the same values over and over would let rounding
+ * errors pile up in a plain running sum, so the sum is compensated
+ * (Kahan-Babuska) and reset whenever the window empties. Values must be
+ * finite, since a single NaN or infinity would poison the running sum long
+ * after it left the window.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class AggregatingDoubleDeque {
+
+    private final DoubleArrayDeque elements = new DoubleArrayDeque();
+    private final DoubleArrayDeque minCandidates = new DoubleArrayDeque();
+    private final DoubleArrayDeque maxCandidates = new DoubleArrayDeque();
+    private double sum;
+    // the low-order bits lost from sum
+    private double compensation;
+
+    /**
+     * Adds the value to the back of the window.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the value to add to the back of the window
+     * @throws java.lang.IllegalArgumentException if data is NaN or infinite
+     */
+    public void addLast(double data) {
+        if (!Double.isFinite(data)) {
+            throw new java.lang.IllegalArgumentException("cannot add " + data + " to window");
+        }
+        elements.addLast(data);
+        accumulate(data);
+        while (minCandidates.size() > 0 && minCandidates.getLast() > data) {
+            minCandidates.removeLast();
+        }
+        minCandidates.addLast(data);
+        while (maxCandidates.size() > 0 && maxCandidates.getLast() < data) {
+            maxCandidates.removeLast();
+        }
+        maxCandidates.addLast(data);
+    }
+
+    /**
+     * Removes and returns the first value of the window.
+     *
+     * Must be O(1).
+     *
+     * @return the value formerly located at the front of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double removeFirst() {
+        double data = elements.removeFirst();
+        accumulate(-data);
+        if (minCandidates.getFirst() == data) {
+            minCandidates.removeFirst();
+        }
+        if (maxCandidates.getFirst() == data) {
+            maxCandidates.removeFirst();
+        }
+        return data;
+    }
+
+    /**
+     * Returns the first value of the window without removing it.
+     *
+     * @return the first value
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double getFirst() {
+        return elements.getFirst();
+    }
+
+    /**
+     * Returns the last value of the window without removing it.
+     *
+     * @return the last value
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double getLast() {
+        return elements.getLast();
+    }
+
+    /**
+     * Returns the smallest value in the window.
+     *
+     * Must be O(1).
+     *
+     * @return the minimum of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double getMin() {
+        return minCandidates.getFirst();
+    }
+
+    /**
+     * Returns the largest value in the window.
+     *
+     * Must be O(1).
+     *
+     * @return the maximum of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double getMax() {
+        return maxCandidates.getFirst();
+    }
+
+    /**
+     * Returns the sum of the values in the window, 0 if it is empty.
+     *
+     * Must be O(1).
+     *
+     * @return the sum of the window
+     */
+    public double getSum() {
+        return sum + compensation;
+    }
+
+    /**
+     * Returns the mean of the values in the window.
+     *
+     * Must be O(1).
+     *
+     * @return the mean of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double getMean() {
+        if (elements.size() == 0) {
+            throw new java.util.NoSuchElementException("cannot average an empty window");
+        } else {
+            return (sum + compensation) / elements.size();
+        }
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return the size of the window
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Adds a value to the compensated sum, or clears the sum if the window
+     * has just become empty.
+     *
+     * @param value the value to add
+     */
+    private void accumulate(double value) {
+        if (elements.size() == 0) {
+            sum = 0;
+            compensation = 0;
+        } else {
+            double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+            sum = total;
+        }
+    }
+}
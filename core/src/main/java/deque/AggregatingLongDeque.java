@@ -0,0 +1,143 @@
+package deque;
+
+/**
+ * A LongArrayDeque for sliding windows that keeps the window's minimum,
+ * maximum, sum, count and mean up to date as values enter at the back and
+ * leave at the front.
+ *
+ * The minimum and maximum come from monotonic candidate deques, as in
+ * AggregatingArrayDeque, and the sum is adjusted on every add and remove,
+ * so every operation is amortized O(1) and every aggregate is O(1).
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class AggregatingLongDeque {
+
+    private final LongArrayDeque elements = new LongArrayDeque();
+    private final LongArrayDeque minCandidates = new LongArrayDeque();
+    private final LongArrayDeque maxCandidates = new LongArrayDeque();
+    // Overflows wrap, so the sum stays exact whenever the window's true sum
+    // fits in a long, even if a running total on the way did not.
+    private long sum;
+
+    /**
+     * Adds the value to the back of the window.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the value to add to the back of the window
+     */
+    public void addLast(long data) {
+        elements.addLast(data);
+        sum += data;
+        while (minCandidates.size() > 0 && minCandidates.getLast() > data) {
+            minCandidates.removeLast();
+        }
+        minCandidates.addLast(data);
+        while (maxCandidates.size() > 0 && maxCandidates.getLast() < data) {
+            maxCandidates.removeLast();
+        }
+        maxCandidates.addLast(data);
+    }
+
+    /**
+     * Removes and returns the first value of the window.
+     *
+     * Must be O(1).
+     *
+     * @return the value formerly located at the front of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public long removeFirst() {
+        long data = elements.removeFirst();
+        sum -= data;
+        if (minCandidates.getFirst() == data) {
+            minCandidates.removeFirst();
+        }
+        if (maxCandidates.getFirst() == data) {
+            maxCandidates.removeFirst();
+        }
+        return data;
+    }
+
+    /**
+     * Returns the first value of the window without removing it.
+     *
+     * @return the first value
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public long getFirst() {
+        return elements.getFirst();
+    }
+
+    /**
+     * Returns the last value of the window without removing it.
+     *
+     * @return the last value
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public long getLast() {
+        return elements.getLast();
+    }
+
+    /**
+     * Returns the smallest value in the window.
+     *
+     * Must be O(1).
+     *
+     * @return the minimum of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public long getMin() {
+        return minCandidates.getFirst();
+    }
+
+    /**
+     * Returns the largest value in the window.
+     *
+     * Must be O(1).
+     *
+     * @return the maximum of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public long getMax() {
+        return maxCandidates.getFirst();
+    }
+
+    /**
+     * Returns the sum of the values in the window, 0 if it is empty.
+     *
+     * Must be O(1).
+     *
+     * @return the sum of the window
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the mean of the values in the window.
+     *
+     * Must be O(1).
+     *
+     * @return the mean of the window
+     * @throws java.util.NoSuchElementException if the window is empty
+     */
+    public double getMean() {
+        if (elements.size() == 0) {
+            throw new java.util.NoSuchElementException("cannot average an empty window");
+        } else {
+            return (double) sum / elements.size();
+        }
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return the size of the window
+     */
+    public int size() {
+        return elements.size();
+    }
+}
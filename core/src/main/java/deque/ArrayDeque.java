@@ -0,0 +1,1618 @@
+package deque;
+
+/**
+ * Your implementation of an ArrayDeque.
+ *
+ * Implements java.util.Deque with one deliberate deviation: every method
+ * that adds an element, including offer, push and add, rejects null with an
+ * IllegalArgumentException, where java.util.Deque specifies a
+ * NullPointerException. This keeps one null contract across the original
+ * addFirst/addLast API and the Deque methods built on it.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ * @userid ychen3221
+ * @GTID 903531127
+ *
+ * Collaborators: N/A
+ *
+ * Resources: canvas, lectures
+ */
+public class ArrayDeque<T> extends java.util.AbstractCollection<T> implements java.util.Deque<T> {
+
+    /**
+     * The initial capacity of the ArrayDeque.
+     *
+     * DO NOT MODIFY THIS VARIABLE.
+     */
+    public static final int INITIAL_CAPACITY = 11;
+
+    /**
+     * The initial capacity of an ArrayDeque in power-of-two mode.
+     */
+    public static final int POWER_OF_TWO_INITIAL_CAPACITY = 16;
+
+    // The elements, front to back, as a circular buffer starting at front.
+    private T[] backingArray;
+    private int front;
+    private int size;
+
+    // backingArray.length - 1 in power-of-two mode, -1 otherwise.
+    private int mask;
+    private final GrowthPolicy growthPolicy;
+    // shrink when size drops below this, -1 when shrinking is off
+    private int shrinkThreshold = -1;
+    private boolean shrinkOnUnderflow;
+    // Counts adds and removes so that iterators can fail fast.
+    private int modCount;
+    // null unless stats have been turned on with enableStats
+    private DequeStats stats;
+
+    /**
+     * Constructs a new ArrayDeque.
+     */
+    public ArrayDeque() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new ArrayDeque that resizes according to the given growth
+     * policy instead of doubling.
+     *
+     * @param growthPolicy how the backing array grows when it is full
+     * @throws java.lang.IllegalArgumentException if growthPolicy is null
+     */
+    public ArrayDeque(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new java.lang.IllegalArgumentException("cannot use a null growth policy");
+        }
+        this.growthPolicy = growthPolicy;
+        backingArray = (T[]) new Object[Math.min(INITIAL_CAPACITY, growthPolicy.maxCapacity)];
+        mask = -1;
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Constructs a new ArrayDeque, optionally in power-of-two mode.
+     *
+     * In power-of-two mode the backing array starts at
+     * POWER_OF_TWO_INITIAL_CAPACITY and its length always stays a power of
+     * two, so wrapping an index around the array is a bit mask instead of an
+     * integer division. The observable behavior is otherwise the same.
+     *
+     * @param powerOfTwoCapacity true to keep the capacity a power of two
+     */
+    public ArrayDeque(boolean powerOfTwoCapacity) {
+        growthPolicy = GrowthPolicy.DOUBLING;
+        if (powerOfTwoCapacity) {
+            backingArray = (T[]) new Object[POWER_OF_TWO_INITIAL_CAPACITY];
+            mask = POWER_OF_TWO_INITIAL_CAPACITY - 1;
+        } else {
+            backingArray = (T[]) new Object[INITIAL_CAPACITY];
+            mask = -1;
+        }
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the front of the deque.
+     *
+     * If sufficient space is not available in the backing array, resize it
+     * according to the growth policy (double the current capacity by
+     * default). When resizing, copy elements to the new array starting at
+     * index 1 so that, after the add, the new data is at index 0 and front is
+     * 0. The copy is done in at most two block copies.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the deque is full and the
+     *                                            growth policy's maximum
+     *                                            capacity has been reached
+     */
+    public void addFirst(T data) { //from the length-1 index
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (size == backingArray.length) {
+                ensureFree(1, 1);
+            }
+            front = wrap(front - 1);
+            backingArray[front] = data;
+            size++;
+            modCount++;
+            if (stats != null) {
+                stats.addedFirst(1, size);
+            }
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque.
+     *
+     * If sufficient space is not available in the backing array, resize it
+     * according to the growth policy (double the current capacity by
+     * default). When resizing, copy elements to the beginning of the new
+     * array and reset front to 0. The copy is done in at most two block
+     * copies.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the deque is full and the
+     *                                            growth policy's maximum
+     *                                            capacity has been reached
+     */
+    public void addLast(T data) { // first add at 0
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (size == backingArray.length) {
+                ensureFree(1, 0);
+            }
+            backingArray[wrap(front + size)] = data;
+            size++;
+            modCount++;
+            if (stats != null) {
+                stats.addedLast(1, size);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     *
+     * Do not grow or shrink the backing array, unless shrinking has been
+     * turned on with setShrinkOnUnderflow.
+     *
+     * If the deque becomes empty as a result of this call, do not reset
+     * front to 0. Rather, modify the front index as if the deque did not become
+     * empty as a result of this call.
+     *
+     * Replace any spots that you remove from with null. Failure to do so can
+     * result in loss of points.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        T temp = pollFirst();
+        if (temp == null) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            return temp;
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     *
+     * Do not grow or shrink the backing array, unless shrinking has been
+     * turned on with setShrinkOnUnderflow.
+     *
+     * If the deque becomes empty as a result of this call, do not reset
+     * front to 0. 
+     *
+     * Replace any spots that you remove from with null. Failure to do so can
+     * result in loss of points.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        T temp = pollLast();
+        if (temp == null) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            return temp;
+        }
+    }
+
+    /**
+     * Returns the first data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the first data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return backingArray[front];
+        }
+    }
+
+    /**
+     * Returns the last data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the last data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return backingArray[wrap(front + size - 1)];
+        }
+    }
+
+    /**
+     * Returns the element at the given position, counting from the front.
+     *
+     * Must be O(1).
+     *
+     * @param index the position of the element, 0 being the front
+     * @return the element at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or not
+     *                                             less than the size
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return backingArray[wrap(front + index)];
+    }
+
+    /**
+     * Replaces the element at the given position, counting from the front.
+     *
+     * Must be O(1).
+     *
+     * @param index the position of the element, 0 being the front
+     * @param data  the new element
+     * @return the element formerly at index
+     * @throws java.lang.IllegalArgumentException  if data is null
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or not
+     *                                             less than the size
+     */
+    public T set(int index, T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        }
+        checkIndex(index);
+        int physical = wrap(front + index);
+        T old = backingArray[physical];
+        backingArray[physical] = data;
+        return old;
+    }
+
+    /**
+     * Searches a deque sorted by the comparator, front to back, for key.
+     *
+     * One comparison against the element at index 0 of the backing array
+     * decides which of the two physical runs can hold key, then that run
+     * alone is searched, so no probe has to wrap its index. The result is
+     * undefined if the deque is not sorted.
+     *
+     * Must be O(log n).
+     *
+     * @param key        the element to look for
+     * @param comparator the order of the deque, or null for natural order
+     * @return the position of an element equal to key, counting from the
+     *         front, or else (-(insertion point) - 1), where the insertion
+     *         point is where key would go to keep the deque sorted
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.lang.ClassCastException       if comparator is null and the
+     *                                            elements are not Comparable
+     */
+    public int binarySearch(T key, java.util.Comparator<? super T> comparator) {
+        if (key == null) {
+            throw new java.lang.IllegalArgumentException("cannot search for null data");
+        }
+        int firstPart = Math.min(size, backingArray.length - front);
+        int result;
+        int base;
+        if (firstPart < size && compare(backingArray[0], key, comparator) <= 0) {
+            result = java.util.Arrays.binarySearch(backingArray, 0, size - firstPart, key, comparator);
+            base = -firstPart;
+        } else {
+            result = java.util.Arrays.binarySearch(backingArray, front, front + firstPart, key, comparator);
+            base = front;
+        }
+        return result >= 0 ? result - base : result + base;
+    }
+
+    /**
+     * Searches a deque sorted in natural order, front to back, for key.
+     *
+     * Must be O(log n).
+     *
+     * @param key the element to look for
+     * @return the position of an element equal to key, counting from the
+     *         front, or else (-(insertion point) - 1)
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.lang.ClassCastException       if the elements are not
+     *                                            Comparable
+     * @see #binarySearch(Object, java.util.Comparator)
+     */
+    public int binarySearch(T key) {
+        return binarySearch(key, null);
+    }
+
+    /**
+     * Adds the element to the front of the deque unless the deque is at the
+     * growth policy's maximum capacity.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the front of the deque
+     * @return true if the element was added, false if the deque is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean offerFirst(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else if (size == growthPolicy.maxCapacity) {
+            return false;
+        } else {
+            addFirst(data);
+            return true;
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque unless the deque is at the
+     * growth policy's maximum capacity.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the deque
+     * @return true if the element was added, false if the deque is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean offerLast(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else if (size == growthPolicy.maxCapacity) {
+            return false;
+        } else {
+            addLast(data);
+            return true;
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque, or returns null if
+     * the deque is empty.
+     *
+     * This is the removal itself; removeFirst only adds the exception. Every
+     * slot outside the deque is null, so the slot at front is null exactly
+     * when the deque is empty and one load serves as the empty check. The
+     * rare shrink and stats work is kept in separate methods so that this
+     * one stays small enough to inline.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the deque, or null
+     */
+    @Override
+    public T pollFirst() {
+        T temp = backingArray[front];
+        if (temp != null) {
+            backingArray[front] = null;
+            front = wrap(front + 1);
+            size--;
+            modCount++;
+            if (stats != null) {
+                stats.removedFirst(1);
+            }
+            if (size < shrinkThreshold) {
+                shrink();
+            }
+        }
+        return temp;
+    }
+
+    /**
+     * Removes and returns the last element of the deque, or returns null if
+     * the deque is empty.
+     *
+     * This is the removal itself; removeLast only adds the exception. When
+     * the deque is empty the slot before front is null, so as in pollFirst
+     * one load serves as the empty check.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque, or null
+     */
+    @Override
+    public T pollLast() {
+        int last = wrap(front + size - 1);
+        T temp = backingArray[last];
+        if (temp != null) {
+            backingArray[last] = null;
+            size--;
+            modCount++;
+            if (stats != null) {
+                stats.removedLast(1);
+            }
+            if (size < shrinkThreshold) {
+                shrink();
+            }
+        }
+        return temp;
+    }
+
+    /**
+     * Returns the first data of the deque without removing it, or null if
+     * the deque is empty. The slot at front is null exactly when the deque
+     * is empty, so this needs no branch.
+     *
+     * Must be O(1).
+     *
+     * @return the first data, or null
+     */
+    @Override
+    public T peekFirst() {
+        return backingArray[front];
+    }
+
+    /**
+     * Returns the last data of the deque without removing it, or null if the
+     * deque is empty. When the deque is empty this reads the null slot
+     * before front, so it needs no branch.
+     *
+     * Must be O(1).
+     *
+     * @return the last data, or null
+     */
+    @Override
+    public T peekLast() {
+        return backingArray[wrap(front + size - 1)];
+    }
+
+    /**
+     * Adds the element to the back of the deque. Same as addLast.
+     *
+     * @param data the data to add to the back of the deque
+     * @return true
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean add(T data) {
+        addLast(data);
+        return true;
+    }
+
+    /**
+     * Adds the element to the back of the deque if it is not full. Same as
+     * offerLast.
+     *
+     * @param data the data to add to the back of the deque
+     * @return true if the element was added, false if the deque is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean offer(T data) {
+        return offerLast(data);
+    }
+
+    /**
+     * Removes and returns the first element of the deque. Same as
+     * removeFirst.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes and returns the first element of the deque, or null if it is
+     * empty. Same as pollFirst.
+     *
+     * @return the data formerly located at the front of the deque, or null
+     */
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Returns the first data of the deque without removing it. Same as
+     * getFirst.
+     *
+     * @return the first data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Returns the first data of the deque without removing it, or null if it
+     * is empty. Same as peekFirst.
+     *
+     * @return the first data, or null
+     */
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Pushes the element onto the front of the deque. Same as addFirst.
+     *
+     * @param data the data to push
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public void push(T data) {
+        addFirst(data);
+    }
+
+    /**
+     * Pops the first element of the deque. Same as removeFirst.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Adds all of the elements to the back of the deque, in iteration order.
+     * Same as addAllLast, so the backing array grows at most once.
+     *
+     * @param data the elements to add to the back of the deque
+     * @return true if the deque changed
+     * @throws java.lang.IllegalArgumentException if data or any element is
+     *                                            null
+     */
+    @Override
+    public boolean addAll(java.util.Collection<? extends T> data) {
+        int oldSize = size;
+        addAllLast(data);
+        return size != oldSize;
+    }
+
+    /**
+     * Returns whether the deque contains an element equal to o.
+     *
+     * Must be O(n).
+     *
+     * @param o the element to look for
+     * @return true if the deque contains o
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Removes the first element equal to o. Same as removeFirstOccurrence.
+     *
+     * @param o the element to remove
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes the first element equal to o, shifting whichever side of it
+     * holds fewer elements.
+     *
+     * Must be O(n).
+     *
+     * @param o the element to remove
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        } else {
+            delete(index);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the last element equal to o, shifting whichever side of it
+     * holds fewer elements.
+     *
+     * Must be O(n).
+     *
+     * @param o the element to remove
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (o != null) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (o.equals(backingArray[wrap(front + i)])) {
+                    delete(i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes every element from the deque. Like the other removals, this
+     * does not reset front and only shrinks the backing array if shrinking
+     * has been turned on with setShrinkOnUnderflow.
+     *
+     * Must be O(n).
+     */
+    @Override
+    public void clear() {
+        clear(front, size);
+        size = 0;
+        modCount++;
+        if (size < shrinkThreshold) {
+            shrink();
+        }
+    }
+
+    /**
+     * Returns the elements from first to last in a new array, copied out of
+     * the backing array in at most two block copies.
+     *
+     * Must be O(n).
+     *
+     * @return an array holding the elements of the deque
+     */
+    @Override
+    public Object[] toArray() {
+        return copyInto(new Object[size]);
+    }
+
+    /**
+     * Returns the elements from first to last in the given array if they
+     * fit, or else in a new array of its runtime type, copied out of the
+     * backing array in at most two block copies. If the given array is
+     * longer than the deque, the slot after the last element is set to null.
+     *
+     * Must be O(n).
+     *
+     * @param dest the array to copy into if it is long enough
+     * @param <E>  the component type of the array
+     * @return an array holding the elements of the deque
+     * @throws java.lang.ArrayStoreException if an element is not an E
+     */
+    @Override
+    public <E> E[] toArray(E[] dest) {
+        if (dest.length < size) {
+            dest = (E[]) java.lang.reflect.Array.newInstance(dest.getClass().getComponentType(), size);
+        } else if (dest.length > size) {
+            dest[size] = null;
+        }
+        return copyInto(dest);
+    }
+
+    /**
+     * Adds all of the elements to the back of the deque, in array order.
+     *
+     * The backing array is grown at most once and the elements are copied in
+     * with at most two block copies, one on each side of the wrap point.
+     *
+     * @param data the elements to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data or any element is
+     *                                            null
+     */
+    public void addAllLast(T[] data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            addAllLast(data, data.length);
+        }
+    }
+
+    /**
+     * Adds all of the elements to the back of the deque, in iteration order.
+     *
+     * @param data the elements to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data or any element is
+     *                                            null
+     */
+    public void addAllLast(java.util.Collection<? extends T> data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            Object[] elements = data.toArray();
+            addAllLast(elements, elements.length);
+        }
+    }
+
+    /**
+     * Adds all of the elements to the front of the deque, keeping their
+     * order, so that data[0] becomes the first element of the deque.
+     *
+     * The backing array is grown at most once and the elements are copied in
+     * with at most two block copies, one on each side of the wrap point.
+     *
+     * @param data the elements to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data or any element is
+     *                                            null
+     */
+    public void addAllFirst(T[] data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            addAllFirst(data, data.length);
+        }
+    }
+
+    /**
+     * Adds all of the elements to the front of the deque, keeping their
+     * iteration order, so that the collection's first element becomes the
+     * first element of the deque.
+     *
+     * @param data the elements to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data or any element is
+     *                                            null
+     */
+    public void addAllFirst(java.util.Collection<? extends T> data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            Object[] elements = data.toArray();
+            addAllFirst(elements, elements.length);
+        }
+    }
+
+    /**
+     * Removes up to maxElements elements from the front of the deque and
+     * adds them, in order, to the given collection.
+     *
+     * Each element is removed only once the target has accepted it. If the
+     * target throws, the elements it accepted before are removed from this
+     * deque and the rest stay in it, so no element ends up in both or in
+     * neither.
+     *
+     * Do not grow or shrink the backing array, unless shrinking has been
+     * turned on with setShrinkOnUnderflow.
+     *
+     * @param target      the collection to move the elements into
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     * @throws java.lang.IllegalArgumentException if target is null or this
+     *                                            deque, or maxElements is
+     *                                            negative
+     */
+    public int drainTo(java.util.Collection<? super T> target, int maxElements) {
+        if (target == null) {
+            throw new java.lang.IllegalArgumentException("cannot drain into a null collection");
+        } else if (target == this) {
+            throw new java.lang.IllegalArgumentException("cannot drain a deque into itself");
+        } else if (maxElements < 0) {
+            throw new java.lang.IllegalArgumentException("cannot drain a negative number of elements");
+        } else {
+            int n = Math.min(maxElements, size);
+            int moved = 0;
+            try {
+                while (moved < n) {
+                    target.add(backingArray[wrap(front + moved)]);
+                    moved++;
+                }
+            } finally {
+                if (moved > 0) {
+                    clear(front, moved);
+                    front = wrap(front + moved);
+                    size -= moved;
+                    modCount++;
+                    if (stats != null) {
+                        stats.removedFirst(moved);
+                    }
+                    if (size < shrinkThreshold) {
+                        shrink();
+                    }
+                }
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Removes the first n elements of the deque and copies them, in order,
+     * into dest starting at index 0.
+     *
+     * Do not grow or shrink the backing array, unless shrinking has been
+     * turned on with setShrinkOnUnderflow.
+     *
+     * @param dest the array to copy the removed elements into
+     * @param n    the number of elements to remove
+     * @throws java.lang.IllegalArgumentException if dest is null, n is
+     *                                            negative or dest is shorter
+     *                                            than n
+     * @throws java.util.NoSuchElementException   if the deque has fewer than n
+     *                                            elements
+     */
+    public void removeFirst(T[] dest, int n) {
+        if (dest == null) {
+            throw new java.lang.IllegalArgumentException("cannot remove data into a null array");
+        } else if (n < 0 || n > dest.length) {
+            throw new java.lang.IllegalArgumentException("cannot remove " + n + " elements into an array of length "
+                + dest.length);
+        } else if (n > size) {
+            throw new java.util.NoSuchElementException("cannot remove " + n + " elements from a deque of size "
+                + size);
+        } else {
+            int firstPart = Math.min(n, backingArray.length - front);
+            System.arraycopy(backingArray, front, dest, 0, firstPart);
+            System.arraycopy(backingArray, 0, dest, firstPart, n - firstPart);
+            clear(front, n);
+            front = wrap(front + n);
+            size -= n;
+            modCount++;
+            if (stats != null) {
+                stats.removedFirst(n);
+            }
+            if (size < shrinkThreshold) {
+                shrink();
+            }
+        }
+    }
+
+    /**
+     * Grows the backing array, if needed, so that it can hold at least
+     * minCapacity elements without resizing again.
+     *
+     * Producers that know how much they are about to add can call this first
+     * to skip the chain of intermediate resizes. In power-of-two mode the
+     * capacity is rounded up to the next power of two.
+     *
+     * @param minCapacity the desired minimum capacity
+     * @throws java.lang.IllegalStateException if minCapacity is larger than
+     *                                         the growth policy's maximum
+     *                                         capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            if (minCapacity > growthPolicy.maxCapacity) {
+                throw new java.lang.IllegalStateException("cannot grow deque beyond "
+                    + growthPolicy.maxCapacity + " elements");
+            }
+            relocate(mask >= 0 ? nextPowerOfTwo(minCapacity) : minCapacity, 0);
+        }
+    }
+
+    /**
+     * Turns shrinking of the backing array on removal on or off. It is off
+     * by default.
+     *
+     * When on, the backing array is halved whenever a removal leaves it less
+     * than a quarter full, but never below its initial capacity. After a
+     * shrink the array is half full at most, so it takes a doubling of the
+     * size to grow again and a halving to shrink again, which keeps a deque
+     * hovering around a boundary from resizing back and forth. Shrinking
+     * copies the elements to the beginning of the new array and resets front
+     * to 0. Removals stay amortized O(1).
+     *
+     * @param shrinkOnUnderflow true to shrink the backing array on removal
+     */
+    public void setShrinkOnUnderflow(boolean shrinkOnUnderflow) {
+        this.shrinkOnUnderflow = shrinkOnUnderflow;
+        updateShrinkThreshold();
+        if (size < shrinkThreshold) {
+            shrink();
+        }
+    }
+
+    /**
+     * Returns whether the backing array shrinks on removal.
+     *
+     * @return true if shrinking on removal is turned on
+     */
+    public boolean isShrinkOnUnderflow() {
+        return shrinkOnUnderflow;
+    }
+
+    /**
+     * Shrinks the backing array to the smallest capacity that holds the
+     * current elements, rounded up to a power of two in power-of-two mode,
+     * and never below 1. Copies the elements to the beginning of the new
+     * array and resets front to 0.
+     *
+     * Must be O(n).
+     */
+    public void trimToSize() {
+        int newLength = Math.max(size, 1);
+        if (mask >= 0) {
+            newLength = nextPowerOfTwo(newLength);
+        }
+        if (newLength < backingArray.length) {
+            relocate(newLength, 0);
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements from first to last.
+     *
+     * The iterator is fail-fast: once the deque is added to or removed from
+     * other than through the iterator, it throws a
+     * ConcurrentModificationException instead of returning stale elements.
+     *
+     * @return an iterator over the deque, front to back
+     */
+    @Override
+    public java.util.Iterator<T> iterator() {
+        return new DequeIterator(false);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements from last to first.
+     *
+     * @return an iterator over the deque, back to front
+     */
+    public java.util.Iterator<T> descendingIterator() {
+        return new DequeIterator(true);
+    }
+
+    /**
+     * Performs the action on every element from first to last, walking the
+     * backing array directly in at most two runs.
+     *
+     * @param action the action to perform
+     * @throws java.lang.NullPointerException              if action is null
+     * @throws java.util.ConcurrentModificationException if the action adds
+     *                                                    to or removes from
+     *                                                    the deque
+     */
+    @Override
+    public void forEach(java.util.function.Consumer<? super T> action) {
+        spliterator().forEachRemaining(action);
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the elements from first to last.
+     *
+     * It is SIZED and SUBSIZED: splitting cuts the remaining logical range in
+     * half, so both halves know their exact size, and each half is read
+     * straight out of the backing array, in at most two runs if it spans the
+     * wrap point.
+     *
+     * @return a spliterator over the deque
+     */
+    @Override
+    public java.util.Spliterator<T> spliterator() {
+        return new DequeSpliterator(0, size, modCount);
+    }
+
+    /**
+     * Returns a sequential stream over the elements from first to last.
+     *
+     * @return a stream over the deque
+     */
+    public java.util.stream.Stream<T> stream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the elements from first to
+     * last.
+     *
+     * @return a parallel stream over the deque
+     */
+    public java.util.stream.Stream<T> parallelStream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Turns on operation counters for this deque, if they are not on
+     * already, and returns them.
+     *
+     * The stats count elements added and removed at either end, bulk
+     * operations included, but not removals from the middle or clear. Until
+     * this is called the deque does not count anything and each operation
+     * only pays a null check.
+     *
+     * @return the stats of this deque
+     */
+    public DequeStats enableStats() {
+        if (stats == null) {
+            stats = new DequeStats(this);
+        }
+        return stats;
+    }
+
+    /**
+     * Turns off the operation counters of this deque. Stats returned before
+     * keep their values but stop counting.
+     */
+    public void disableStats() {
+        stats = null;
+    }
+
+    /**
+     * Returns the operation counters of this deque.
+     *
+     * @return the stats, or null if they are turned off
+     */
+    public DequeStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Returns the backing array of the deque.
+     *
+     * For grading purposes only. You shouldn't need to use this method since
+     * you have direct access to the variable.
+     *
+     * @return the backing array of the deque
+     */
+    public T[] getBackingArray() {
+        // DO NOT MODIFY THIS METHOD!
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * For grading purposes only. You shouldn't need to use this method since
+     * you have direct access to the variable.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        // DO NOT MODIFY THIS METHOD!
+        return size;
+    }
+
+    /**
+     * Returns whether the deque keeps its capacity a power of two.
+     *
+     * @return true if the deque is in power-of-two mode
+     */
+    public boolean isPowerOfTwoCapacity() {
+        return mask >= 0;
+    }
+
+    /**
+     * Wraps an index in the range [-length, 2 * length) into the backing
+     * array, using a mask in power-of-two mode and mod() otherwise.
+     *
+     * @param index the unwrapped index
+     * @return the physical index in the backing array
+     */
+    private int wrap(int index) {
+        return mask >= 0 ? index & mask : mod(index, backingArray.length);
+    }
+
+    /**
+     * Checks that index is the position of an element.
+     *
+     * @param index the position to check
+     * @throws java.lang.IndexOutOfBoundsException if it is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new java.lang.IndexOutOfBoundsException("index " + index + " is out of bounds for size " + size);
+        }
+    }
+
+    /**
+     * Compares two elements with the comparator, or in natural order if it
+     * is null.
+     *
+     * @param a          the first element
+     * @param b          the second element
+     * @param comparator the comparator, or null
+     * @return a negative number, zero or a positive number as a is less
+     *         than, equal to or greater than b
+     */
+    private static <E> int compare(E a, E b, java.util.Comparator<? super E> comparator) {
+        return comparator == null ? ((Comparable<? super E>) a).compareTo(b) : comparator.compare(a, b);
+    }
+
+    /**
+     * Returns the logical index of the first element equal to o, scanning
+     * the backing array in at most two runs.
+     *
+     * @param o the element to look for
+     * @return the index from the front, or -1 if there is no such element
+     */
+    private int indexOf(Object o) {
+        if (o != null) {
+            int firstPart = Math.min(size, backingArray.length - front);
+            for (int i = 0; i < firstPart; i++) {
+                if (o.equals(backingArray[front + i])) {
+                    return i;
+                }
+            }
+            for (int i = firstPart; i < size; i++) {
+                if (o.equals(backingArray[i - firstPart])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the element at a logical index by shifting the elements on
+     * whichever side of it is shorter one slot towards it.
+     *
+     * @param index the index from the front of the element to remove
+     */
+    private void delete(int index) {
+        if (index < size - 1 - index) {
+            for (int i = index; i > 0; i--) {
+                backingArray[wrap(front + i)] = backingArray[wrap(front + i - 1)];
+            }
+            backingArray[front] = null;
+            front = wrap(front + 1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                backingArray[wrap(front + i)] = backingArray[wrap(front + i + 1)];
+            }
+            backingArray[wrap(front + size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        if (size < shrinkThreshold) {
+            shrink();
+        }
+    }
+
+    /**
+     * Copies the elements, in order, to the start of dest in at most two
+     * block copies.
+     *
+     * @param dest an array at least size long
+     * @param <E>  the component type of the array
+     * @return dest
+     */
+    private <E> E[] copyInto(E[] dest) {
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, dest, 0, firstPart);
+        System.arraycopy(backingArray, 0, dest, firstPart, size - firstPart);
+        return dest;
+    }
+
+    /**
+     * Adds the first n elements to the back of the deque.
+     *
+     * @param elements the elements to add
+     * @param n        the number of elements to add
+     * @throws java.lang.IllegalArgumentException if any element is null
+     */
+    private void addAllLast(Object[] elements, int n) {
+        checkNoNulls(elements, n);
+        ensureFree(n, 0);
+        int tail = wrap(front + size);
+        int firstPart = Math.min(n, backingArray.length - tail);
+        System.arraycopy(elements, 0, backingArray, tail, firstPart);
+        System.arraycopy(elements, firstPart, backingArray, 0, n - firstPart);
+        size += n;
+        modCount++;
+        if (stats != null) {
+            stats.addedLast(n, size);
+        }
+    }
+
+    /**
+     * Adds the first n elements to the front of the deque, keeping their
+     * order.
+     *
+     * @param elements the elements to add
+     * @param n        the number of elements to add
+     * @throws java.lang.IllegalArgumentException if any element is null
+     */
+    private void addAllFirst(Object[] elements, int n) {
+        checkNoNulls(elements, n);
+        ensureFree(n, n);
+        int newFront = wrap(front - n);
+        int firstPart = Math.min(n, backingArray.length - newFront);
+        System.arraycopy(elements, 0, backingArray, newFront, firstPart);
+        System.arraycopy(elements, firstPart, backingArray, 0, n - firstPart);
+        front = newFront;
+        size += n;
+        modCount++;
+        if (stats != null) {
+            stats.addedFirst(n, size);
+        }
+    }
+
+    /**
+     * Checks that none of the first n elements is null.
+     *
+     * @param elements the elements to check
+     * @param n        the number of elements to check
+     * @throws java.lang.IllegalArgumentException if any element is null
+     */
+    private static void checkNoNulls(Object[] elements, int n) {
+        for (int i = 0; i < n; i++) {
+            if (elements[i] == null) {
+                throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+            }
+        }
+    }
+
+    /**
+     * Makes sure there is room for n more elements, growing the backing
+     * array at most once. When growing, the elements are copied to the new
+     * array starting at index offset.
+     *
+     * @param n      the number of elements about to be added
+     * @param offset where the first element goes in the new array
+     * @throws java.lang.IllegalStateException if the growth policy's maximum
+     *                                         capacity would be exceeded
+     */
+    private void ensureFree(int n, int offset) {
+        int required = size + n;
+        if (required < 0 || required > growthPolicy.maxCapacity) {
+            throw new java.lang.IllegalStateException("cannot grow deque beyond "
+                + growthPolicy.maxCapacity + " elements");
+        } else if (required > backingArray.length) {
+            int newLength;
+            if (mask >= 0) {
+                newLength = Math.max(backingArray.length << 1, nextPowerOfTwo(required));
+            } else {
+                newLength = growthPolicy.grow(backingArray.length, required);
+            }
+            relocate(newLength, offset);
+        }
+    }
+
+    /**
+     * Copies the elements, in order, into a new backing array of the given
+     * length starting at index offset, and points front at the first one.
+     *
+     * At most two block copies are made, one on each side of the wrap point.
+     *
+     * @param newLength the length of the new backing array
+     * @param offset    where the first element goes in the new array
+     */
+    private void relocate(int newLength, int offset) {
+        T[] newArray = (T[]) new Object[newLength];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newArray, offset, firstPart);
+        System.arraycopy(backingArray, 0, newArray, offset + firstPart, size - firstPart);
+        front = offset;
+        setBackingArray(newArray);
+        if (stats != null) {
+            stats.resized(size);
+        }
+    }
+
+    /**
+     * Nulls out n slots of the backing array starting at physical index
+     * start, wrapping around the end of the array.
+     *
+     * @param start the physical index of the first slot
+     * @param n     the number of slots to clear
+     */
+    private void clear(int start, int n) {
+        int firstPart = Math.min(n, backingArray.length - start);
+        java.util.Arrays.fill(backingArray, start, start + firstPart, null);
+        java.util.Arrays.fill(backingArray, 0, n - firstPart, null);
+    }
+
+    /**
+     * Returns the smallest power of two that is at least n.
+     *
+     * @param n a positive number
+     * @return the smallest power of two greater than or equal to n
+     * @throws java.lang.OutOfMemoryError if there is no such int
+     */
+    private static int nextPowerOfTwo(int n) {
+        int power = n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+        if (power <= 0) {
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        return power;
+    }
+
+    /**
+     * Replaces the backing array, keeping the mask in step with its length.
+     *
+     * @param newArray the new backing array
+     */
+    private void setBackingArray(T[] newArray) {
+        backingArray = newArray;
+        if (mask >= 0) {
+            mask = newArray.length - 1;
+        }
+        updateShrinkThreshold();
+    }
+
+    /**
+     * Recomputes the size below which a removal shrinks the backing array.
+     */
+    private void updateShrinkThreshold() {
+        if (shrinkOnUnderflow && backingArray.length >> 1 >= initialCapacity()) {
+            shrinkThreshold = backingArray.length >> 2;
+        } else {
+            shrinkThreshold = -1;
+        }
+    }
+
+    /**
+     * Halves the backing array until it is at least a quarter full or back
+     * at its initial capacity.
+     */
+    private void shrink() {
+        int newLength = backingArray.length;
+        int minLength = initialCapacity();
+        while (size < newLength >> 2 && newLength >> 1 >= minLength) {
+            newLength >>= 1;
+        }
+        if (newLength < backingArray.length) {
+            relocate(newLength, 0);
+        }
+    }
+
+    /**
+     * Returns the capacity the deque started with.
+     *
+     * @return the initial capacity of this deque
+     */
+    private int initialCapacity() {
+        return mask >= 0 ? POWER_OF_TWO_INITIAL_CAPACITY
+            : Math.min(INITIAL_CAPACITY, growthPolicy.maxCapacity);
+    }
+
+    /**
+     * Iterates over the deque by logical index, so a resize of the backing
+     * array that does not add or remove elements does not disturb it.
+     */
+    private final class DequeIterator implements java.util.Iterator<T> {
+        private final boolean descending;
+        // the logical index of the next element to return
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        /**
+         * Creates an iterator at one end of the deque.
+         *
+         * @param descending true to iterate from last to first
+         */
+        private DequeIterator(boolean descending) {
+            this.descending = descending;
+            cursor = descending ? size - 1 : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return descending ? cursor >= 0 : cursor < size;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            } else if (!hasNext()) {
+                throw new java.util.NoSuchElementException("no more elements in deque");
+            }
+            lastReturned = cursor;
+            cursor += descending ? -1 : 1;
+            return backingArray[wrap(front + lastReturned)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new java.lang.IllegalStateException("next has not been called since the last remove");
+            } else if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+            delete(lastReturned);
+            if (!descending) {
+                cursor = lastReturned;
+            }
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Spliterator over the logical range [origin, fence) of the deque.
+     */
+    private final class DequeSpliterator implements java.util.Spliterator<T> {
+        private int origin;
+        private final int fence;
+        private final int expectedModCount;
+
+        /**
+         * Creates a spliterator over a logical range of the deque.
+         *
+         * @param origin           the first logical index, inclusive
+         * @param fence            the last logical index, exclusive
+         * @param expectedModCount the modCount when the range was taken
+         */
+        private DequeSpliterator(int origin, int fence, int expectedModCount) {
+            this.origin = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public java.util.Spliterator<T> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+            DequeSpliterator prefix = new DequeSpliterator(origin, mid, expectedModCount);
+            origin = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(java.util.function.Consumer<? super T> action) {
+            if (action == null) {
+                throw new java.lang.NullPointerException();
+            } else if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            } else if (origin >= fence) {
+                return false;
+            }
+            action.accept(backingArray[wrap(front + origin++)]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(java.util.function.Consumer<? super T> action) {
+            if (action == null) {
+                throw new java.lang.NullPointerException();
+            } else if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+            T[] array = backingArray;
+            int n = fence - origin;
+            int start = wrap(front + origin);
+            int firstEnd = start + Math.min(n, array.length - start);
+            for (int i = start; i < firstEnd; i++) {
+                action.accept(array[i]);
+            }
+            for (int i = 0, end = n - (firstEnd - start); i < end; i++) {
+                action.accept(array[i]);
+            }
+            origin = fence;
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * Decides how much the backing array of an ArrayDeque grows when it is
+     * full. Power-of-two mode always doubles and ignores the policy.
+     */
+    public static final class GrowthPolicy {
+
+        /**
+         * The largest backing array an ArrayDeque will allocate. Some VMs
+         * reserve a few header words in arrays.
+         */
+        public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+        /**
+         * Doubles the capacity on every resize. This is the default.
+         */
+        public static final GrowthPolicy DOUBLING = new GrowthPolicy(1, 0, MAX_CAPACITY);
+
+        /**
+         * Grows the capacity by half on every resize, trading more frequent
+         * copies for less unused space.
+         */
+        public static final GrowthPolicy ONE_AND_A_HALF = new GrowthPolicy(2, 0, MAX_CAPACITY);
+
+        // capacity grows by (capacity / divisor) or by increment if divisor is 0
+        private final int divisor;
+        private final int increment;
+        private final int maxCapacity;
+
+        /**
+         * Creates a policy.
+         *
+         * @param divisor     grow by capacity / divisor, or 0 to use increment
+         * @param increment   the fixed amount to grow by when divisor is 0
+         * @param maxCapacity the largest capacity the deque may reach
+         */
+        private GrowthPolicy(int divisor, int increment, int maxCapacity) {
+            this.divisor = divisor;
+            this.increment = increment;
+            this.maxCapacity = maxCapacity;
+        }
+
+        /**
+         * Returns a policy that grows the capacity by a fixed number of slots
+         * on every resize, never going past maxCapacity. Once a deque using
+         * this policy holds maxCapacity elements, further adds throw.
+         *
+         * @param increment   the number of slots to add on each resize
+         * @param maxCapacity the largest capacity the deque may reach
+         * @return the policy
+         * @throws java.lang.IllegalArgumentException if increment or
+         *                                            maxCapacity is not
+         *                                            positive, or maxCapacity
+         *                                            is above MAX_CAPACITY
+         */
+        public static GrowthPolicy fixedIncrement(int increment, int maxCapacity) {
+            if (increment <= 0) {
+                throw new java.lang.IllegalArgumentException("the increment must be positive");
+            } else if (maxCapacity <= 0 || maxCapacity > MAX_CAPACITY) {
+                throw new java.lang.IllegalArgumentException("the maximum capacity must be in [1, "
+                    + MAX_CAPACITY + "]");
+            } else {
+                return new GrowthPolicy(0, increment, maxCapacity);
+            }
+        }
+
+        /**
+         * Returns the largest capacity a deque using this policy may reach.
+         *
+         * @return the maximum capacity
+         */
+        public int getMaxCapacity() {
+            return maxCapacity;
+        }
+
+        /**
+         * Returns the new capacity for a full backing array.
+         *
+         * @param capacity the current capacity
+         * @param required the capacity that is needed, at most maxCapacity
+         * @return the new capacity, between required and maxCapacity
+         */
+        int grow(int capacity, int required) {
+            long grown = capacity + (long) (divisor == 0 ? increment : Math.max(1, capacity / divisor));
+            return (int) Math.min(maxCapacity, Math.max(grown, required));
+        }
+    }
+
+    /**
+     * Returns the smallest non-negative remainder when dividing index by
+     * modulo. So, for example, if modulo is 5, then this method will return
+     * either 0, 1, 2, 3, or 4, depending on what the remainder is.
+     *
+     * This differs from using the % operator in that the % operator returns
+     * the smallest answer with the same sign as the dividend. So, for example,
+     * (-5) % 6 => -5, but with this method, mod(-5, 6) = 1.
+     *
+     * Examples:
+     * mod(-3, 5) => 2
+     * mod(11, 6) => 5
+     * mod(-7, 7) => 0
+     *
+     * This helper method is here to make the math part of the circular
+     * behavior easier to work with.
+     *
+     * @param index  the number to take the remainder of
+     * @param modulo the divisor to divide by
+     * @return the remainder in its smallest non-negative form
+     * @throws java.lang.IllegalArgumentException if the modulo is non-positive
+     */
+    private static int mod(int index, int modulo) {
+        // DO NOT MODIFY THIS METHOD!
+        if (modulo <= 0) {
+            throw new IllegalArgumentException("The modulo must be positive");
+        }
+        int newIndex = index % modulo;
+        return newIndex >= 0 ? newIndex : newIndex + modulo;
+    }
+}
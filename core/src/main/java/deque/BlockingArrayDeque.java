@@ -0,0 +1,466 @@
+package deque;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, thread-safe deque whose put and take operations block while the
+ * deque is full or empty.
+ *
+ * The elements are kept in an ArrayDeque whose backing array is allocated at
+ * full capacity up front, so it never resizes. One lock guards it, with
+ * separate notEmpty and notFull conditions so that a removal only wakes
+ * producers and an add only wakes consumers. Waiting uses
+ * java.util.concurrent locks rather than monitors, which park virtual
+ * threads without pinning their carrier thread.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class BlockingArrayDeque<T> {
+
+    private final ArrayDeque<T> deque;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Constructs a new BlockingArrayDeque.
+     *
+     * @param capacity the maximum number of elements the deque can hold
+     * @throws java.lang.IllegalArgumentException if capacity is not positive
+     */
+    public BlockingArrayDeque(int capacity) {
+        if (capacity <= 0) {
+            throw new java.lang.IllegalArgumentException("the capacity must be positive");
+        }
+        this.capacity = capacity;
+        deque = new ArrayDeque<>(ArrayDeque.GrowthPolicy.fixedIncrement(capacity, capacity));
+        deque.ensureCapacity(capacity);
+    }
+
+    /**
+     * Adds the element to the front of the deque, waiting for space if the
+     * deque is full.
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws InterruptedException               if interrupted while waiting
+     */
+    public void putFirst(T data) throws InterruptedException {
+        checkData(data);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                notFull.await();
+            }
+            deque.addFirst(data);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque, waiting for space if the
+     * deque is full.
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws InterruptedException               if interrupted while waiting
+     */
+    public void putLast(T data) throws InterruptedException {
+        checkData(data);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                notFull.await();
+            }
+            deque.addLast(data);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque, waiting for one if
+     * the deque is empty.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeFirst() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                notEmpty.await();
+            }
+            T data = deque.removeFirst();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque, waiting for one if
+     * the deque is empty.
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T takeLast() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                notEmpty.await();
+            }
+            T data = deque.removeLast();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element to the front of the deque if there is space.
+     *
+     * @param data the data to add to the front of the deque
+     * @return true if the element was added, false if the deque is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offerFirst(T data) {
+        checkData(data);
+        lock.lock();
+        try {
+            if (deque.size() == capacity) {
+                return false;
+            }
+            deque.addFirst(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque if there is space.
+     *
+     * @param data the data to add to the back of the deque
+     * @return true if the element was added, false if the deque is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offerLast(T data) {
+        checkData(data);
+        lock.lock();
+        try {
+            if (deque.size() == capacity) {
+                return false;
+            }
+            deque.addLast(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element to the front of the deque, waiting up to the given
+     * time for space if the deque is full.
+     *
+     * @param data    the data to add to the front of the deque
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return true if the element was added, false if the time ran out
+     * @throws java.lang.IllegalArgumentException if data or unit is null
+     * @throws InterruptedException               if interrupted while waiting
+     */
+    public boolean offerFirst(T data, long timeout, TimeUnit unit) throws InterruptedException {
+        checkData(data);
+        long nanos = toNanos(timeout, unit);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            deque.addFirst(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque, waiting up to the given
+     * time for space if the deque is full.
+     *
+     * @param data    the data to add to the back of the deque
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return true if the element was added, false if the time ran out
+     * @throws java.lang.IllegalArgumentException if data or unit is null
+     * @throws InterruptedException               if interrupted while waiting
+     */
+    public boolean offerLast(T data, long timeout, TimeUnit unit) throws InterruptedException {
+        checkData(data);
+        long nanos = toNanos(timeout, unit);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            deque.addLast(data);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque, if there is one.
+     *
+     * @return the data formerly located at the front of the deque, or null if
+     *         the deque is empty
+     */
+    public T pollFirst() {
+        lock.lock();
+        try {
+            if (deque.size() == 0) {
+                return null;
+            }
+            T data = deque.removeFirst();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque, if there is one.
+     *
+     * @return the data formerly located at the back of the deque, or null if
+     *         the deque is empty
+     */
+    public T pollLast() {
+        lock.lock();
+        try {
+            if (deque.size() == 0) {
+                return null;
+            }
+            T data = deque.removeLast();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque, waiting up to the
+     * given time for one if the deque is empty.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return the data formerly located at the front of the deque, or null if
+     *         the time ran out
+     * @throws java.lang.IllegalArgumentException if unit is null
+     * @throws InterruptedException               if interrupted while waiting
+     */
+    public T pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = toNanos(timeout, unit);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            T data = deque.removeFirst();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque, waiting up to the
+     * given time for one if the deque is empty.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit    the unit of timeout
+     * @return the data formerly located at the back of the deque, or null if
+     *         the time ran out
+     * @throws java.lang.IllegalArgumentException if unit is null
+     * @throws InterruptedException               if interrupted while waiting
+     */
+    public T pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = toNanos(timeout, unit);
+        lock.lockInterruptibly();
+        try {
+            while (deque.size() == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            T data = deque.removeLast();
+            notFull.signal();
+            return data;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element to the front of the deque without waiting.
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the deque is full
+     */
+    public void addFirst(T data) {
+        if (!offerFirst(data)) {
+            throw new java.lang.IllegalStateException("cannot add data when deque is full");
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque without waiting.
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the deque is full
+     */
+    public void addLast(T data) {
+        if (!offerLast(data)) {
+            throw new java.lang.IllegalStateException("cannot add data when deque is full");
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque without waiting.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        T data = pollFirst();
+        if (data == null) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        }
+        return data;
+    }
+
+    /**
+     * Removes and returns the last element of the deque without waiting.
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        T data = pollLast();
+        if (data == null) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        }
+        return data;
+    }
+
+    /**
+     * Returns the first data of the deque without removing it.
+     *
+     * @return the first data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        lock.lock();
+        try {
+            return deque.getFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the last data of the deque without removing it.
+     *
+     * @return the last data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        lock.lock();
+        try {
+            return deque.getLast();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements that can be added before the deque is
+     * full.
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Checks that data can be added to the deque.
+     *
+     * @param data the data to check
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    private static void checkData(Object data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        }
+    }
+
+    /**
+     * Converts a timeout to nanoseconds.
+     *
+     * @param timeout the timeout, in units of unit
+     * @param unit    the unit of timeout
+     * @return the timeout in nanoseconds
+     * @throws java.lang.IllegalArgumentException if unit is null
+     */
+    private static long toNanos(long timeout, TimeUnit unit) {
+        if (unit == null) {
+            throw new java.lang.IllegalArgumentException("cannot wait with a null time unit");
+        }
+        return unit.toNanos(timeout);
+    }
+}
@@ -0,0 +1,239 @@
+package deque;
+
+/**
+ * An ArrayDeque specialized for queueing ByteBuffers to write to a channel.
+ *
+ * Uses the same circular layout as ArrayDeque, a front index and a size over
+ * a power-of-two backing array, but the backing array is a real ByteBuffer[]
+ * so that its two contiguous runs can be handed straight to a gathering
+ * write. Flushing many small buffers costs one write call per run instead of
+ * one per buffer, and nothing is copied.
+ *
+ * A buffer must not be read, written or repositioned by anyone else while it
+ * is in the deque, since the deque tracks the total of their remaining bytes.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class ByteBufferDeque {
+
+    /**
+     * The initial capacity of the ByteBufferDeque.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private java.nio.ByteBuffer[] backingArray;
+    private int front;
+    private int size;
+    // the sum of remaining() over every buffer in the deque
+    private long remaining;
+
+    /**
+     * Constructs a new ByteBufferDeque.
+     */
+    public ByteBufferDeque() {
+        backingArray = new java.nio.ByteBuffer[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the buffer to the front of the deque, so that its remaining bytes
+     * are written before every other buffer.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the buffer to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(java.nio.ByteBuffer data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (size == backingArray.length) {
+                grow(1);
+            }
+            front = (front - 1) & (backingArray.length - 1);
+            backingArray[front] = data;
+            size++;
+            remaining += data.remaining();
+        }
+    }
+
+    /**
+     * Adds the buffer to the back of the deque, so that its remaining bytes
+     * are written after every other buffer.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the buffer to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(java.nio.ByteBuffer data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (size == backingArray.length) {
+                grow(0);
+            }
+            backingArray[(front + size) & (backingArray.length - 1)] = data;
+            size++;
+            remaining += data.remaining();
+        }
+    }
+
+    /**
+     * Removes and returns the first buffer of the deque, whether or not it
+     * has been written.
+     *
+     * Must be O(1).
+     *
+     * @return the buffer formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public java.nio.ByteBuffer removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            java.nio.ByteBuffer temp = backingArray[front];
+            backingArray[front] = null;
+            front = (front + 1) & (backingArray.length - 1);
+            size--;
+            remaining -= temp.remaining();
+            return temp;
+        }
+    }
+
+    /**
+     * Returns the first buffer of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the first buffer
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public java.nio.ByteBuffer getFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return backingArray[front];
+        }
+    }
+
+    /**
+     * Returns the last buffer of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the last buffer
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public java.nio.ByteBuffer getLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return backingArray[(front + size - 1) & (backingArray.length - 1)];
+        }
+    }
+
+    /**
+     * Writes as many queued bytes as the channel accepts, in order, with one
+     * gathering write per contiguous run of the backing array.
+     *
+     * The buffers from front to the end of the backing array go out in the
+     * first write. Only if all of them were fully written and the deque
+     * wraps around is the run at the start of the array written as well, so
+     * a non-blocking channel that fills up costs a single call. Fully written
+     * buffers are then removed, and a partially written first buffer stays
+     * at the front with its position advanced past the written bytes.
+     *
+     * @param channel the channel to write to
+     * @return the number of bytes written, possibly 0
+     * @throws java.lang.IllegalArgumentException if channel is null
+     * @throws java.io.IOException if the channel fails to write
+     */
+    public long writeTo(java.nio.channels.GatheringByteChannel channel) throws java.io.IOException {
+        if (channel == null) {
+            throw new java.lang.IllegalArgumentException("cannot write to a null channel");
+        } else if (size == 0) {
+            return 0;
+        }
+        int firstPart = Math.min(size, backingArray.length - front);
+        boolean wrapped = firstPart < size;
+        long written = channel.write(backingArray, front, firstPart);
+        removeWritten();
+        // front only wraps to 0 if every buffer of the first run was removed
+        if (wrapped && front == 0 && size > 0) {
+            written += channel.write(backingArray, 0, size);
+            removeWritten();
+        }
+        remaining -= written;
+        return written;
+    }
+
+    /**
+     * Returns the total number of bytes left to write across every buffer in
+     * the deque.
+     *
+     * Must be O(1).
+     *
+     * @return the number of bytes left to write
+     */
+    public long remaining() {
+        return remaining;
+    }
+
+    /**
+     * Returns the backing array of the deque.
+     *
+     * @return the backing array of the deque
+     */
+    public java.nio.ByteBuffer[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes the buffers at the front that have nothing left to write. An
+     * emptied deque starts again at index 0, so that the next batch is a
+     * single run.
+     */
+    private void removeWritten() {
+        while (size > 0 && !backingArray[front].hasRemaining()) {
+            backingArray[front] = null;
+            front = (front + 1) & (backingArray.length - 1);
+            size--;
+        }
+        if (size == 0) {
+            front = 0;
+        }
+    }
+
+    /**
+     * Doubles the backing array, copying the elements to the new array
+     * starting at index offset with at most two block copies.
+     *
+     * @param offset where the first element goes in the new array
+     * @throws java.lang.IllegalStateException if the capacity cannot double
+     */
+    private void grow(int offset) {
+        int newLength = backingArray.length << 1;
+        if (newLength <= 0) {
+            throw new java.lang.IllegalStateException("cannot grow deque beyond " + size + " elements");
+        }
+        java.nio.ByteBuffer[] newArray = new java.nio.ByteBuffer[newLength];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newArray, offset, firstPart);
+        System.arraycopy(backingArray, 0, newArray, offset + firstPart, size - firstPart);
+        front = offset;
+        backingArray = newArray;
+    }
+}
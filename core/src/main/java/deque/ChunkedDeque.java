@@ -0,0 +1,375 @@
+package deque;
+
+/**
+ * A deque stored as a doubly linked list of fixed-size array chunks.
+ *
+ * Growing at either end links in one new chunk instead of copying every
+ * element, so adds are O(1) in the worst case, not just amortized. Each
+ * chunk costs one array and two links no matter how many elements it holds,
+ * and consecutive elements sit next to each other in memory.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class ChunkedDeque<T> implements Iterable<T> {
+
+    /**
+     * The default number of elements per chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final int chunkSize;
+    // headIndex is the index of the first element in headChunk, tailIndex is
+    // one past the index of the last element in tailChunk.
+    private Chunk<T> headChunk;
+    private int headIndex;
+    private Chunk<T> tailChunk;
+    private int tailIndex;
+    private int size;
+    // One emptied chunk kept around so that a deque hovering at a chunk
+    // boundary does not allocate a chunk on every other operation.
+    private Chunk<T> spare;
+    // Counts adds and removes so that iterators can fail fast.
+    private int modCount;
+
+    /**
+     * Constructs a new ChunkedDeque with DEFAULT_CHUNK_SIZE elements per
+     * chunk.
+     */
+    public ChunkedDeque() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a new ChunkedDeque.
+     *
+     * @param chunkSize the number of elements per chunk
+     * @throws java.lang.IllegalArgumentException if chunkSize is less than 2
+     */
+    public ChunkedDeque(int chunkSize) {
+        if (chunkSize < 2) {
+            throw new java.lang.IllegalArgumentException("the chunk size must be at least 2");
+        }
+        this.chunkSize = chunkSize;
+        headChunk = new Chunk<>(chunkSize);
+        tailChunk = headChunk;
+        headIndex = chunkSize / 2;
+        tailIndex = headIndex;
+    }
+
+    /**
+     * Adds the element to the front of the deque.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (headIndex == 0) {
+                Chunk<T> chunk = newChunk();
+                chunk.next = headChunk;
+                headChunk.previous = chunk;
+                headChunk = chunk;
+                headIndex = chunkSize;
+            }
+            headChunk.elements[--headIndex] = data;
+            size++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (tailIndex == chunkSize) {
+                Chunk<T> chunk = newChunk();
+                chunk.previous = tailChunk;
+                tailChunk.next = chunk;
+                tailChunk = chunk;
+                tailIndex = 0;
+            }
+            tailChunk.elements[tailIndex++] = data;
+            size++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            T temp = (T) headChunk.elements[headIndex];
+            headChunk.elements[headIndex++] = null;
+            size--;
+            modCount++;
+            if (size == 0) {
+                recenter();
+            } else if (headIndex == chunkSize) {
+                Chunk<T> emptied = headChunk;
+                headChunk = emptied.next;
+                headChunk.previous = null;
+                headIndex = 0;
+                release(emptied);
+            }
+            return temp;
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            T temp = (T) tailChunk.elements[--tailIndex];
+            tailChunk.elements[tailIndex] = null;
+            size--;
+            modCount++;
+            if (size == 0) {
+                recenter();
+            } else if (tailIndex == 0) {
+                Chunk<T> emptied = tailChunk;
+                tailChunk = emptied.previous;
+                tailChunk.next = null;
+                tailIndex = chunkSize;
+                release(emptied);
+            }
+            return temp;
+        }
+    }
+
+    /**
+     * Returns the first data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the first data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return (T) headChunk.elements[headIndex];
+        }
+    }
+
+    /**
+     * Returns the last data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the last data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return (T) tailChunk.elements[tailIndex - 1];
+        }
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements from first to last.
+     *
+     * @return an iterator over the deque, front to back
+     */
+    @Override
+    public java.util.Iterator<T> iterator() {
+        return new DequeIterator(false);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements from last to first.
+     *
+     * @return an iterator over the deque, back to front
+     */
+    public java.util.Iterator<T> descendingIterator() {
+        return new DequeIterator(true);
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the elements from first to last.
+     * It splits by copying batches out of the iterator into arrays.
+     *
+     * @return a spliterator over the deque
+     */
+    @Override
+    public java.util.Spliterator<T> spliterator() {
+        return java.util.Spliterators.spliterator(iterator(), size,
+            java.util.Spliterator.ORDERED | java.util.Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the elements from first to last.
+     *
+     * @return a stream over the deque
+     */
+    public java.util.stream.Stream<T> stream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the elements from first to
+     * last.
+     *
+     * @return a parallel stream over the deque
+     */
+    public java.util.stream.Stream<T> parallelStream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns the number of elements per chunk.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns an empty, unlinked chunk, reusing the spare one if there is
+     * one.
+     *
+     * @return the chunk
+     */
+    private Chunk<T> newChunk() {
+        Chunk<T> chunk = spare;
+        if (chunk == null) {
+            return new Chunk<>(chunkSize);
+        } else {
+            spare = null;
+            return chunk;
+        }
+    }
+
+    /**
+     * Unlinks an emptied chunk and keeps it as the spare if there is none.
+     *
+     * @param chunk the chunk, which holds no elements
+     */
+    private void release(Chunk<T> chunk) {
+        chunk.previous = null;
+        chunk.next = null;
+        if (spare == null) {
+            spare = chunk;
+        }
+    }
+
+    /**
+     * Moves both indices of an empty deque to the middle of its only chunk,
+     * so that it can grow in either direction before linking a new chunk.
+     */
+    private void recenter() {
+        headIndex = chunkSize / 2;
+        tailIndex = headIndex;
+    }
+
+    /**
+     * Walks the chunks in either direction.
+     */
+    private final class DequeIterator implements java.util.Iterator<T> {
+        private final boolean descending;
+        private final int expectedModCount = modCount;
+        private Chunk<T> chunk;
+        // the index of the next element in chunk when ascending, one past
+        // it when descending
+        private int index;
+        private int remaining = size;
+
+        /**
+         * Creates an iterator at one end of the deque.
+         *
+         * @param descending true to iterate from last to first
+         */
+        private DequeIterator(boolean descending) {
+            this.descending = descending;
+            chunk = descending ? tailChunk : headChunk;
+            index = descending ? tailIndex : headIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            } else if (remaining == 0) {
+                throw new java.util.NoSuchElementException("no more elements in deque");
+            }
+            remaining--;
+            if (descending) {
+                if (index == 0) {
+                    chunk = chunk.previous;
+                    index = chunkSize;
+                }
+                return (T) chunk.elements[--index];
+            } else {
+                if (index == chunkSize) {
+                    chunk = chunk.next;
+                    index = 0;
+                }
+                return (T) chunk.elements[index++];
+            }
+        }
+    }
+
+    /**
+     * One block of the deque.
+     */
+    private static final class Chunk<T> {
+        private final Object[] elements;
+        private Chunk<T> previous;
+        private Chunk<T> next;
+
+        /**
+         * Creates an empty chunk.
+         *
+         * @param chunkSize the number of elements the chunk holds
+         */
+        private Chunk(int chunkSize) {
+            elements = new Object[chunkSize];
+        }
+    }
+}
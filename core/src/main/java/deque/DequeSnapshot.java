@@ -0,0 +1,366 @@
+package deque;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the contents of a deque in a compact binary format and reads them
+ * back into an ArrayDeque or a LinkedDeque.
+ *
+ * A snapshot is a magic number, the element count and then every element
+ * from first to last, each written by a Codec. Only the logical contents are
+ * written: no unused backing array slots and no node structure. Optionally
+ * the whole snapshot is prefixed with its length in bytes, so that several
+ * can be sent back to back over one connection and a reader knows where
+ * each ends.
+ *
+ * Pass buffered streams; the codecs write one field at a time.
+ *
+ * Lengths and counts read from a snapshot are not trusted. A frame may be at
+ * most MAX_FRAME_LENGTH bytes, a framed snapshot may not claim more elements
+ * than it has bytes, and byte arrays and backing arrays are only grown as
+ * data actually arrives, so a corrupt or hostile header cannot force a huge
+ * allocation before the stream runs out.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public final class DequeSnapshot {
+
+    /**
+     * Writes and reads ints.
+     */
+    public static final Codec<Integer> INTEGERS = new Codec<Integer>() {
+        @Override
+        public void write(Integer element, DataOutput out) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * Writes and reads longs.
+     */
+    public static final Codec<Long> LONGS = new Codec<Long>() {
+        @Override
+        public void write(Long element, DataOutput out) throws IOException {
+            out.writeLong(element);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /**
+     * Writes and reads strings as a byte count followed by their UTF-8
+     * bytes, without the 64 KB limit of writeUTF.
+     */
+    public static final Codec<String> STRINGS = new Codec<String>() {
+        @Override
+        public void write(String element, DataOutput out) throws IOException {
+            byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("negative string length " + length);
+            }
+            return new String(readBytes(in, length), StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * The largest frame, in bytes, that a framed snapshot may have.
+     */
+    public static final int MAX_FRAME_LENGTH = 1 << 28;
+
+    private static final int MAGIC = 0x44455153;
+    // The most elements an ArrayDeque is sized for before any of an
+    // unframed snapshot are read. Larger ones grow the backing array as
+    // they are read and are trimmed afterwards.
+    private static final int MAX_PRESIZE = 1 << 20;
+    // The most bytes allocated for a byte array before any are read.
+    private static final int MAX_PREALLOCATE = 1 << 16;
+
+    /**
+     * Not instantiable.
+     */
+    private DequeSnapshot() {
+    }
+
+    /**
+     * Writes the elements of the deque, from first to last.
+     *
+     * Must be O(n).
+     *
+     * @param deque  the deque to write, such as an ArrayDeque or LinkedDeque
+     * @param codec  writes one element
+     * @param out    where to write the snapshot
+     * @param framed true to prefix the snapshot with its length in bytes
+     * @param <T>    the element type
+     * @throws java.lang.IllegalArgumentException if an argument is null
+     * @throws java.io.IOException if writing fails
+     */
+    public static <T> void write(java.util.Collection<? extends T> deque, Codec<? super T> codec,
+                                 DataOutput out, boolean framed) throws IOException {
+        if (deque == null || codec == null || out == null) {
+            throw new java.lang.IllegalArgumentException("cannot write a snapshot with a null argument");
+        } else if (framed) {
+            FrameBuffer buffer = new FrameBuffer();
+            DataOutputStream payload = new DataOutputStream(buffer);
+            writeElements(deque, codec, payload);
+            payload.flush();
+            if (buffer.size() > MAX_FRAME_LENGTH) {
+                throw new IOException("snapshot of " + buffer.size() + " bytes is too large to frame");
+            }
+            out.writeInt(buffer.size());
+            buffer.writeTo(out);
+        } else {
+            writeElements(deque, codec, out);
+        }
+    }
+
+    /**
+     * Reads a snapshot into a new ArrayDeque whose backing array holds
+     * exactly the element count (or ArrayDeque.INITIAL_CAPACITY if that is
+     * larger). A framed snapshot has already been checked to hold at least
+     * one byte per element, so the array is sized to the count before the
+     * elements are read. An unframed count cannot be checked until the
+     * elements arrive, so beyond about a million elements the array starts
+     * at that size, doubles as the elements are read and is trimmed to the
+     * count once they all have been.
+     *
+     * Must be O(n).
+     *
+     * @param codec  reads one element
+     * @param in     where to read the snapshot from
+     * @param framed true if the snapshot was written with its length
+     * @param <T>    the element type
+     * @return a deque holding the elements in their original order
+     * @throws java.lang.IllegalArgumentException if an argument is null
+     * @throws java.io.IOException if reading fails or the snapshot is corrupt
+     */
+    public static <T> ArrayDeque<T> readArrayDeque(Codec<? extends T> codec, DataInput in, boolean framed)
+        throws IOException {
+        DataInput source = open(codec, in, framed);
+        int count = readHeader(source, framed);
+        ArrayDeque<T> deque = new ArrayDeque<>();
+        deque.ensureCapacity(framed ? count : Math.min(count, MAX_PRESIZE));
+        for (int i = 0; i < count; i++) {
+            deque.addLast(readElement(codec, source));
+        }
+        close(source, framed);
+        if (count > MAX_PRESIZE) {
+            deque.trimToSize();
+        }
+        return deque;
+    }
+
+    /**
+     * Reads a snapshot into a new LinkedDeque, linking each node onto the
+     * tail as it is read.
+     *
+     * Must be O(n).
+     *
+     * @param codec  reads one element
+     * @param in     where to read the snapshot from
+     * @param framed true if the snapshot was written with its length
+     * @param <T>    the element type
+     * @return a deque holding the elements in their original order
+     * @throws java.lang.IllegalArgumentException if an argument is null
+     * @throws java.io.IOException if reading fails or the snapshot is corrupt
+     */
+    public static <T> LinkedDeque<T> readLinkedDeque(Codec<? extends T> codec, DataInput in, boolean framed)
+        throws IOException {
+        DataInput source = open(codec, in, framed);
+        int count = readHeader(source, framed);
+        LinkedDeque<T> deque = new LinkedDeque<>();
+        for (int i = 0; i < count; i++) {
+            deque.addLast(readElement(codec, source));
+        }
+        close(source, framed);
+        return deque;
+    }
+
+    /**
+     * Writes the header and the elements.
+     *
+     * @param deque the deque to write
+     * @param codec writes one element
+     * @param out   where to write
+     * @param <T>   the element type
+     * @throws java.io.IOException if writing fails
+     */
+    private static <T> void writeElements(java.util.Collection<? extends T> deque, Codec<? super T> codec,
+                                          DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(deque.size());
+        int written = 0;
+        for (T element : deque) {
+            codec.write(element, out);
+            written++;
+        }
+        if (written != deque.size()) {
+            throw new java.util.ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Checks the arguments of a read and, for a framed snapshot, reads the
+     * whole frame so that the elements are parsed from memory.
+     *
+     * @param codec  reads one element
+     * @param in     where to read from
+     * @param framed true if the snapshot is framed
+     * @return the input to parse the snapshot from
+     * @throws java.io.IOException if the frame cannot be read
+     */
+    private static DataInput open(Codec<?> codec, DataInput in, boolean framed) throws IOException {
+        if (codec == null || in == null) {
+            throw new java.lang.IllegalArgumentException("cannot read a snapshot with a null argument");
+        } else if (framed) {
+            int length = in.readInt();
+            if (length < 8 || length > MAX_FRAME_LENGTH) {
+                throw new IOException("bad snapshot frame length " + length);
+            }
+            return new DataInputStream(new ByteArrayInputStream(readBytes(in, length)));
+        } else {
+            return in;
+        }
+    }
+
+    /**
+     * Checks that a framed snapshot used up its whole frame.
+     *
+     * @param source the input returned by open
+     * @param framed true if the snapshot is framed
+     * @throws java.io.IOException if bytes are left over
+     */
+    private static void close(DataInput source, boolean framed) throws IOException {
+        if (framed && ((DataInputStream) source).available() != 0) {
+            throw new IOException("snapshot frame has trailing bytes");
+        }
+    }
+
+    /**
+     * Reads the magic number and the element count.
+     *
+     * @param in     where to read from
+     * @param framed true if in is a frame returned by open
+     * @return the element count
+     * @throws java.io.IOException if the header is not valid
+     */
+    private static int readHeader(DataInput in, boolean framed) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("not a deque snapshot");
+        }
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("negative element count " + count);
+        } else if (framed && count > ((DataInputStream) in).available()) {
+            // a frame is in memory, so available() is exact, and every
+            // element takes at least one byte
+            throw new IOException("element count " + count + " exceeds the frame");
+        }
+        return count;
+    }
+
+    /**
+     * Reads exactly length bytes, growing the array as they arrive rather
+     * than allocating length bytes up front.
+     *
+     * @param in     where to read from
+     * @param length the number of bytes, not negative
+     * @return the bytes
+     * @throws java.io.IOException if the input ends first
+     */
+    private static byte[] readBytes(DataInput in, int length) throws IOException {
+        byte[] bytes = new byte[Math.min(length, MAX_PREALLOCATE)];
+        int read = 0;
+        while (true) {
+            in.readFully(bytes, read, bytes.length - read);
+            read = bytes.length;
+            if (read == length) {
+                return bytes;
+            }
+            bytes = java.util.Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+        }
+    }
+
+    /**
+     * Reads one element, rejecting null.
+     *
+     * @param codec reads the element
+     * @param in    where to read from
+     * @param <T>   the element type
+     * @return the element
+     * @throws java.io.IOException if the codec returns null
+     */
+    private static <T> T readElement(Codec<? extends T> codec, DataInput in) throws IOException {
+        T element = codec.read(in);
+        if (element == null) {
+            throw new IOException("codec read a null element");
+        }
+        return element;
+    }
+
+    /**
+     * A ByteArrayOutputStream that can copy its bytes straight to a
+     * DataOutput without an intermediate array.
+     */
+    private static final class FrameBuffer extends ByteArrayOutputStream {
+
+        /**
+         * Writes every byte written so far.
+         *
+         * @param out where to write them
+         * @throws java.io.IOException if writing fails
+         */
+        private void writeTo(DataOutput out) throws IOException {
+            out.write(buf, 0, count);
+        }
+    }
+
+    /**
+     * Writes and reads single elements of a snapshot. Every element must be
+     * written as at least one byte.
+     *
+     * @param <T> the element type
+     */
+    public interface Codec<T> {
+
+        /**
+         * Writes one element.
+         *
+         * @param element the element, never null
+         * @param out     where to write it
+         * @throws java.io.IOException if writing fails
+         */
+        void write(T element, DataOutput out) throws IOException;
+
+        /**
+         * Reads one element written by write.
+         *
+         * @param in where to read it from
+         * @return the element, never null
+         * @throws java.io.IOException if reading fails
+         */
+        T read(DataInput in) throws IOException;
+    }
+}
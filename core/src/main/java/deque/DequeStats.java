@@ -0,0 +1,320 @@
+package deque;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Operation counters for one ArrayDeque, turned on with
+ * ArrayDeque.enableStats.
+ *
+ * Counts the elements added and removed at each end, bulk operations
+ * included, the largest size reached, and how many times the backing array
+ * was replaced and how many elements that copied. The counters are
+ * LongAdders, so they can be read from a monitoring thread while the deque
+ * is in use without slowing it down. The current size and capacity are read
+ * from the deque without synchronization and are only approximate while it
+ * is being changed.
+ *
+ * A deque without stats only pays a null check per operation.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public final class DequeStats implements DequeStatsMBean {
+
+    // The JMX domain, the package name as is conventional.
+    private static final String DOMAIN = DequeStats.class.getPackageName();
+
+    private final ArrayDeque<?> deque;
+    private final LongAdder addFirstCount = new LongAdder();
+    private final LongAdder addLastCount = new LongAdder();
+    private final LongAdder removeFirstCount = new LongAdder();
+    private final LongAdder removeLastCount = new LongAdder();
+    private final LongAccumulator highWaterMark = new LongAccumulator(Math::max, 0);
+    private final LongAdder resizeCount = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+
+    /**
+     * Creates the stats of a deque.
+     *
+     * @param deque the deque being counted
+     */
+    DequeStats(ArrayDeque<?> deque) {
+        this.deque = deque;
+        highWaterMark.accumulate(deque.size());
+    }
+
+    /**
+     * Records n elements added at the front, leaving the deque at size.
+     *
+     * @param n    the number of elements added
+     * @param size the size after the add
+     */
+    void addedFirst(int n, int size) {
+        addFirstCount.add(n);
+        highWaterMark.accumulate(size);
+    }
+
+    /**
+     * Records n elements added at the back, leaving the deque at size.
+     *
+     * @param n    the number of elements added
+     * @param size the size after the add
+     */
+    void addedLast(int n, int size) {
+        addLastCount.add(n);
+        highWaterMark.accumulate(size);
+    }
+
+    /**
+     * Records n elements removed from the front.
+     *
+     * @param n the number of elements removed
+     */
+    void removedFirst(int n) {
+        removeFirstCount.add(n);
+    }
+
+    /**
+     * Records n elements removed from the back.
+     *
+     * @param n the number of elements removed
+     */
+    void removedLast(int n) {
+        removeLastCount.add(n);
+    }
+
+    /**
+     * Records a new backing array that copied n elements.
+     *
+     * @param n the number of elements copied
+     */
+    void resized(int n) {
+        resizeCount.increment();
+        copiedElements.add(n);
+    }
+
+    @Override
+    public long getAddFirstCount() {
+        return addFirstCount.sum();
+    }
+
+    @Override
+    public long getAddLastCount() {
+        return addLastCount.sum();
+    }
+
+    @Override
+    public long getRemoveFirstCount() {
+        return removeFirstCount.sum();
+    }
+
+    @Override
+    public long getRemoveLastCount() {
+        return removeLastCount.sum();
+    }
+
+    @Override
+    public long getHighWaterMark() {
+        return highWaterMark.get();
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizeCount.sum();
+    }
+
+    @Override
+    public long getCopiedElements() {
+        return copiedElements.sum();
+    }
+
+    @Override
+    public int getSize() {
+        return deque.size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return deque.getBackingArray().length;
+    }
+
+    @Override
+    public int getWastedCapacity() {
+        return Math.max(getCapacity() - getSize(), 0);
+    }
+
+    @Override
+    public void reset() {
+        addFirstCount.reset();
+        addLastCount.reset();
+        removeFirstCount.reset();
+        removeLastCount.reset();
+        resizeCount.reset();
+        copiedElements.reset();
+        highWaterMark.reset();
+        highWaterMark.accumulate(deque.size());
+    }
+
+    /**
+     * Returns the current values of every counter.
+     *
+     * @return a snapshot of the stats
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Registers the stats with the platform MBean server as
+     * deque:type=DequeStats,name=&lt;name&gt;.
+     *
+     * The MBean server holds on to the stats, and through them the deque,
+     * until they are unregistered, so call unregister(name) once the deque
+     * is no longer used or it can never be garbage collected. Disabling the
+     * stats on the deque does not unregister them.
+     *
+     * @param name the name of the deque
+     * @return the name the stats were registered under
+     * @throws javax.management.JMException if the name is taken or invalid
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = objectName(name);
+        java.lang.management.ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    /**
+     * Removes the stats registered under name from the platform MBean
+     * server.
+     *
+     * @param name the name the deque was registered with
+     * @throws javax.management.JMException if nothing is registered there
+     */
+    public static void unregister(String name) throws JMException {
+        java.lang.management.ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+    }
+
+    /**
+     * Returns the JMX name for a deque name.
+     *
+     * @param name the name of the deque
+     * @return the object name
+     * @throws javax.management.JMException if the name is invalid
+     */
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=DequeStats,name=" + ObjectName.quote(name));
+    }
+
+    /**
+     * The values of a DequeStats at one point in time.
+     */
+    public static final class Snapshot {
+        private final long addFirstCount;
+        private final long addLastCount;
+        private final long removeFirstCount;
+        private final long removeLastCount;
+        private final long highWaterMark;
+        private final long resizeCount;
+        private final long copiedElements;
+        private final int size;
+        private final int capacity;
+
+        /**
+         * Reads every counter of stats.
+         *
+         * @param stats the stats to read
+         */
+        private Snapshot(DequeStats stats) {
+            addFirstCount = stats.getAddFirstCount();
+            addLastCount = stats.getAddLastCount();
+            removeFirstCount = stats.getRemoveFirstCount();
+            removeLastCount = stats.getRemoveLastCount();
+            highWaterMark = stats.getHighWaterMark();
+            resizeCount = stats.getResizeCount();
+            copiedElements = stats.getCopiedElements();
+            size = stats.getSize();
+            capacity = stats.getCapacity();
+        }
+
+        /**
+         * @return the number of elements added at the front
+         */
+        public long getAddFirstCount() {
+            return addFirstCount;
+        }
+
+        /**
+         * @return the number of elements added at the back
+         */
+        public long getAddLastCount() {
+            return addLastCount;
+        }
+
+        /**
+         * @return the number of elements removed from the front
+         */
+        public long getRemoveFirstCount() {
+            return removeFirstCount;
+        }
+
+        /**
+         * @return the number of elements removed from the back
+         */
+        public long getRemoveLastCount() {
+            return removeLastCount;
+        }
+
+        /**
+         * @return the largest size the deque had reached
+         */
+        public long getHighWaterMark() {
+            return highWaterMark;
+        }
+
+        /**
+         * @return the number of times the backing array had been replaced
+         */
+        public long getResizeCount() {
+            return resizeCount;
+        }
+
+        /**
+         * @return the number of elements copied by those replacements
+         */
+        public long getCopiedElements() {
+            return copiedElements;
+        }
+
+        /**
+         * @return the size of the deque
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return the length of the backing array
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * @return the number of unused slots in the backing array
+         */
+        public int getWastedCapacity() {
+            return Math.max(capacity - size, 0);
+        }
+
+        @Override
+        public String toString() {
+            return "adds " + addFirstCount + "/" + addLastCount + ", removes " + removeFirstCount + "/"
+                + removeLastCount + " (first/last), size " + size + " of " + capacity + ", high-water mark "
+                + highWaterMark + ", " + resizeCount + " resizes copying " + copiedElements + " elements";
+        }
+    }
+}
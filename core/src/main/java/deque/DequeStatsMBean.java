@@ -0,0 +1,66 @@
+package deque;
+
+/**
+ * The JMX view of a DequeStats.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public interface DequeStatsMBean {
+
+    /**
+     * @return the number of elements added at the front
+     */
+    long getAddFirstCount();
+
+    /**
+     * @return the number of elements added at the back
+     */
+    long getAddLastCount();
+
+    /**
+     * @return the number of elements removed from the front
+     */
+    long getRemoveFirstCount();
+
+    /**
+     * @return the number of elements removed from the back
+     */
+    long getRemoveLastCount();
+
+    /**
+     * @return the largest size the deque has reached
+     */
+    long getHighWaterMark();
+
+    /**
+     * @return the number of times the backing array was replaced
+     */
+    long getResizeCount();
+
+    /**
+     * @return the number of elements copied by those replacements
+     */
+    long getCopiedElements();
+
+    /**
+     * @return the current size of the deque
+     */
+    int getSize();
+
+    /**
+     * @return the current length of the backing array
+     */
+    int getCapacity();
+
+    /**
+     * @return the number of unused slots in the backing array
+     */
+    int getWastedCapacity();
+
+    /**
+     * Sets every counter back to 0 and the high-water mark to the current
+     * size.
+     */
+    void reset();
+}
@@ -0,0 +1,242 @@
+package deque;
+
+/**
+ * An ArrayDeque specialized for int values.
+ *
+ * Uses the same circular layout as ArrayDeque, a front index and a size over
+ * a backing int[], without boxing each element. The capacity is always a
+ * power of two so that wrapping an index is a bit mask.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class IntArrayDeque {
+
+    /**
+     * The initial capacity of the IntArrayDeque.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private int[] backingArray;
+    private int front;
+    private int size;
+
+    /**
+     * Constructs a new IntArrayDeque.
+     */
+    public IntArrayDeque() {
+        backingArray = new int[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the front of the deque.
+     *
+     * If sufficient space is not available in the backing array, resize it to
+     * double the current capacity. When resizing, copy elements to the new
+     * array starting at index 1 so that, after the add, the new data is at
+     * index 0 and front is 0.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the front of the deque
+     */
+    public void addFirst(int data) {
+        if (size == backingArray.length) {
+            grow(1);
+        }
+        front = (front - 1) & (backingArray.length - 1);
+        backingArray[front] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the back of the deque.
+     *
+     * If sufficient space is not available in the backing array, resize it to
+     * double the current capacity. When resizing, copy elements to the
+     * beginning of the new array and reset front to 0.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the deque
+     */
+    public void addLast(int data) {
+        if (size == backingArray.length) {
+            grow(0);
+        }
+        backingArray[(front + size) & (backingArray.length - 1)] = data;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     *
+     * Do not grow or shrink the backing array.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            int temp = backingArray[front];
+            front = (front + 1) & (backingArray.length - 1);
+            size--;
+            return temp;
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     *
+     * Do not grow or shrink the backing array.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            size--;
+            return backingArray[(front + size) & (backingArray.length - 1)];
+        }
+    }
+
+    /**
+     * Returns the first data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the first data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int getFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return backingArray[front];
+        }
+    }
+
+    /**
+     * Returns the last data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the last data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int getLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return backingArray[(front + size - 1) & (backingArray.length - 1)];
+        }
+    }
+
+    /**
+     * Performs the action on each element, from first to last.
+     *
+     * @param action the action to perform
+     * @throws java.lang.IllegalArgumentException if action is null
+     */
+    public void forEach(java.util.function.IntConsumer action) {
+        if (action == null) {
+            throw new java.lang.IllegalArgumentException("cannot perform a null action");
+        } else {
+            int firstPart = Math.min(size, backingArray.length - front);
+            for (int i = front; i < front + firstPart; i++) {
+                action.accept(backingArray[i]);
+            }
+            for (int i = 0; i < size - firstPart; i++) {
+                action.accept(backingArray[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements, from first to last. The
+     * iterator does not support removal and must not be used after the
+     * deque is modified.
+     *
+     * @return the iterator
+     */
+    public java.util.PrimitiveIterator.OfInt iterator() {
+        return new java.util.PrimitiveIterator.OfInt() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) {
+                    throw new java.util.NoSuchElementException("no more elements in deque");
+                } else {
+                    return backingArray[(front + index++) & (backingArray.length - 1)];
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the elements, from first to last, in a new array.
+     *
+     * @return an array holding the elements of the deque
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, result, 0, firstPart);
+        System.arraycopy(backingArray, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    /**
+     * Returns the backing array of the deque.
+     *
+     * @return the backing array of the deque
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the backing array, copying the elements to the new array
+     * starting at index offset with at most two block copies.
+     *
+     * @param offset where the first element goes in the new array
+     * @throws java.lang.IllegalStateException if the capacity cannot double
+     */
+    private void grow(int offset) {
+        int newLength = backingArray.length << 1;
+        if (newLength <= 0) {
+            throw new java.lang.IllegalStateException("cannot grow deque beyond " + size + " elements");
+        }
+        int[] newArray = new int[newLength];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newArray, offset, firstPart);
+        System.arraycopy(backingArray, 0, newArray, offset + firstPart, size - firstPart);
+        front = offset;
+        backingArray = newArray;
+    }
+}
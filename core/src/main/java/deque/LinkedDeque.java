@@ -0,0 +1,914 @@
+package deque;
+
+/**
+ * Your implementation of a LinkedDeque.
+ *
+ * Implements java.util.Deque with one deliberate deviation: every method
+ * that adds an element, including offer, push and add, rejects null with an
+ * IllegalArgumentException, where java.util.Deque specifies a
+ * NullPointerException. This keeps one null contract across the original
+ * addFirst/addLast API and the Deque methods built on it.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ * @userid ychen3221
+ * @GTID 903531127
+ *
+ * Collaborators: N/A
+ *
+ * Resources: canvas, lectures
+ */
+public class LinkedDeque<T> extends java.util.AbstractCollection<T> implements java.util.Deque<T> {
+
+    // The elements, front to back, as a doubly linked list.
+    private LinkedNode<T> head;
+    private LinkedNode<T> tail;
+    private int size;
+
+    // Free list of unlinked nodes, chained through next.
+    private LinkedNode<T> pool;
+    private int poolSize;
+    private final int poolCapacity;
+    // Counts adds and removes so that iterators can fail fast.
+    private int modCount;
+    // The node last reached by index and its index. Only valid while
+    // fingerModCount == modCount, so any other add or remove drops it.
+    private LinkedNode<T> finger;
+    private int fingerIndex;
+    private int fingerModCount;
+
+    /**
+     * Constructs a new LinkedDeque that does not recycle nodes.
+     */
+    public LinkedDeque() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new LinkedDeque that keeps up to poolCapacity removed
+     * nodes and reuses them for later adds instead of allocating new ones.
+     *
+     * Pooled nodes have their data and previous references cleared, so the
+     * pool never keeps removed data reachable. Note that a node returned by
+     * getHead or getTail may be reused once its data has been removed.
+     *
+     * @param poolCapacity the maximum number of nodes to keep for reuse
+     * @throws java.lang.IllegalArgumentException if poolCapacity is negative
+     */
+    public LinkedDeque(int poolCapacity) {
+        if (poolCapacity < 0) {
+            throw new java.lang.IllegalArgumentException("the pool capacity cannot be negative");
+        }
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Adds the element to the front of the deque.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) { //add at head
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data into deque");
+        } else {
+            LinkedNode<T> newNode = newNode(data);
+            if (size == 0) {
+                head = newNode;
+                tail = newNode;
+            } else {
+                newNode.setNext(head);
+                head.setPrevious(newNode);
+                head = newNode;
+            }
+            size++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data into deque");
+        } else {
+            LinkedNode<T> newNode = newNode(data);
+            if (size == 0) {
+                head = newNode;
+                tail = newNode;
+            } else {
+                tail.setNext(newNode);
+                newNode.setPrevious(tail);
+                tail = newNode;
+            }
+            size++;
+            modCount++;
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        T temp = pollFirst();
+        if (temp == null) {
+            throw new java.util.NoSuchElementException("cannot remove data if deque is empty");
+        } else {
+            return temp;
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        T temp = pollLast();
+        if (temp == null) {
+            throw new java.util.NoSuchElementException("cannot remove data if deque is empty");
+        } else {
+            return temp;
+        }
+    }
+
+    /**
+     * Returns the first data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data if deque is empty");
+        } else {
+            return head.getData();
+        }
+    }
+
+    /**
+     * Returns the last data of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data if deque is empty");
+        } else {
+            return tail.getData();
+        }
+    }
+
+    /**
+     * Returns the element at the given position, counting from the front.
+     *
+     * The walk starts from the head, the tail or the node reached by the
+     * previous indexed call, whichever is closest, so scanning positions in
+     * order costs O(1) per call.
+     *
+     * Must be O(min(index, size - index)), or O(1) next to the last index
+     * used.
+     *
+     * @param index the position of the element, 0 being the front
+     * @return the element at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or not
+     *                                             less than the size
+     */
+    public T get(int index) {
+        checkIndex(index, size);
+        return node(index).getData();
+    }
+
+    /**
+     * Inserts the element at the given position, counting from the front,
+     * so that it ends up at index and the elements from index on move back
+     * by one.
+     *
+     * Must be O(min(index, size - index)), or O(1) next to the last index
+     * used.
+     *
+     * @param index the position for the element, from 0 to size inclusive
+     * @param data  the data to insert
+     * @throws java.lang.IllegalArgumentException  if data is null
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or
+     *                                             greater than the size
+     */
+    public void insert(int index, T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data into deque");
+        }
+        checkIndex(index, size + 1);
+        if (index == 0) {
+            addFirst(data);
+        } else if (index == size) {
+            addLast(data);
+        } else {
+            LinkedNode<T> next = node(index);
+            LinkedNode<T> previous = next.getPrevious();
+            LinkedNode<T> newNode = newNode(data);
+            newNode.setPrevious(previous);
+            newNode.setNext(next);
+            previous.setNext(newNode);
+            next.setPrevious(newNode);
+            size++;
+            modCount++;
+            setFinger(newNode, index);
+        }
+    }
+
+    /**
+     * Removes and returns the element at the given position, counting from
+     * the front.
+     *
+     * Must be O(min(index, size - index)), or O(1) next to the last index
+     * used.
+     *
+     * @param index the position of the element, 0 being the front
+     * @return the element formerly at index
+     * @throws java.lang.IndexOutOfBoundsException if index is negative or not
+     *                                             less than the size
+     */
+    public T remove(int index) {
+        checkIndex(index, size);
+        LinkedNode<T> removed = node(index);
+        LinkedNode<T> next = removed.getNext();
+        T data = removed.getData();
+        unlink(removed);
+        if (next != null) {
+            setFinger(next, index);
+        }
+        return data;
+    }
+
+    /**
+     * Adds the element to the front of the deque. The deque is unbounded, so
+     * this always succeeds.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the front of the deque
+     * @return true
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean offerFirst(T data) {
+        addFirst(data);
+        return true;
+    }
+
+    /**
+     * Adds the element to the back of the deque. The deque is unbounded, so
+     * this always succeeds.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the deque
+     * @return true
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean offerLast(T data) {
+        addLast(data);
+        return true;
+    }
+
+    /**
+     * Removes and returns the first element of the deque, or returns null if
+     * the deque is empty.
+     *
+     * This is the removal itself; removeFirst only adds the exception.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the deque, or null
+     */
+    @Override
+    public T pollFirst() {
+        LinkedNode<T> removed = head;
+        if (removed == null) {
+            return null;
+        }
+        T temp = removed.getData();
+        head = removed.getNext();
+        if (head == null) {
+            tail = null;
+        } else {
+            head.setPrevious(null);
+        }
+        size--;
+        modCount++;
+        recycle(removed);
+        return temp;
+    }
+
+    /**
+     * Removes and returns the last element of the deque, or returns null if
+     * the deque is empty.
+     *
+     * This is the removal itself; removeLast only adds the exception.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque, or null
+     */
+    @Override
+    public T pollLast() {
+        LinkedNode<T> removed = tail;
+        if (removed == null) {
+            return null;
+        }
+        T temp = removed.getData();
+        tail = removed.getPrevious();
+        if (tail == null) {
+            head = null;
+        } else {
+            tail.setNext(null);
+        }
+        size--;
+        modCount++;
+        recycle(removed);
+        return temp;
+    }
+
+    /**
+     * Returns the first data of the deque without removing it, or null if
+     * the deque is empty.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the deque, or null
+     */
+    @Override
+    public T peekFirst() {
+        LinkedNode<T> node = head;
+        return node == null ? null : node.getData();
+    }
+
+    /**
+     * Returns the last data of the deque without removing it, or null if the
+     * deque is empty.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the back of the deque, or null
+     */
+    @Override
+    public T peekLast() {
+        LinkedNode<T> node = tail;
+        return node == null ? null : node.getData();
+    }
+
+    /**
+     * Adds the element to the back of the deque. Same as addLast.
+     *
+     * @param data the data to add to the back of the deque
+     * @return true
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean add(T data) {
+        addLast(data);
+        return true;
+    }
+
+    /**
+     * Adds the element to the back of the deque. Same as offerLast.
+     *
+     * @param data the data to add to the back of the deque
+     * @return true
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public boolean offer(T data) {
+        return offerLast(data);
+    }
+
+    /**
+     * Removes and returns the first element of the deque. Same as
+     * removeFirst.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes and returns the first element of the deque, or null if it is
+     * empty. Same as pollFirst.
+     *
+     * @return the data formerly located at the front of the deque, or null
+     */
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    /**
+     * Returns the first data of the deque without removing it. Same as
+     * getFirst.
+     *
+     * @return the data located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    /**
+     * Returns the first data of the deque without removing it, or null if it
+     * is empty. Same as peekFirst.
+     *
+     * @return the data located at the front of the deque, or null
+     */
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Pushes the element onto the front of the deque. Same as addFirst.
+     *
+     * @param data the data to push
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    @Override
+    public void push(T data) {
+        addFirst(data);
+    }
+
+    /**
+     * Pops the first element of the deque. Same as removeFirst.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    /**
+     * Removes the first element equal to o. Same as removeFirstOccurrence.
+     *
+     * @param o the element to remove
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    /**
+     * Removes the first element equal to o.
+     *
+     * Must be O(n).
+     *
+     * @param o the element to remove
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        if (o != null) {
+            for (LinkedNode<T> node = head; node != null; node = node.getNext()) {
+                if (o.equals(node.getData())) {
+                    unlink(node);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the last element equal to o.
+     *
+     * Must be O(n).
+     *
+     * @param o the element to remove
+     * @return true if an element was removed
+     */
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        if (o != null) {
+            for (LinkedNode<T> node = tail; node != null; node = node.getPrevious()) {
+                if (o.equals(node.getData())) {
+                    unlink(node);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the deque contains an element equal to o.
+     *
+     * Must be O(n).
+     *
+     * @param o the element to look for
+     * @return true if the deque contains o
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (o != null) {
+            for (LinkedNode<T> node = head; node != null; node = node.getNext()) {
+                if (o.equals(node.getData())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes every element from the deque, clearing each node so that
+     * nothing keeps the removed data reachable.
+     *
+     * Must be O(n).
+     */
+    @Override
+    public void clear() {
+        LinkedNode<T> node = head;
+        while (node != null) {
+            LinkedNode<T> next = node.getNext();
+            recycle(node);
+            node = next;
+        }
+        head = null;
+        tail = null;
+        finger = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the elements from first to last.
+     *
+     * The iterator is fail-fast: once the deque is added to or removed from
+     * other than through the iterator, it throws a
+     * ConcurrentModificationException instead of following a node that may
+     * have been recycled.
+     *
+     * @return an iterator over the deque, front to back
+     */
+    @Override
+    public java.util.Iterator<T> iterator() {
+        return new DequeIterator(false);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements from last to first.
+     *
+     * @return an iterator over the deque, back to front
+     */
+    public java.util.Iterator<T> descendingIterator() {
+        return new DequeIterator(true);
+    }
+
+    /**
+     * Returns a fail-fast spliterator over the elements from first to last.
+     *
+     * A linked list cannot be cut in the middle without walking to it, so
+     * each split copies the next batch of elements into an array and hands
+     * that off instead. Batches start at BATCH_UNIT elements and grow by
+     * BATCH_UNIT per split, so a parallel stream gets work to other threads
+     * quickly without splitting a large deque into tiny pieces.
+     *
+     * @return a spliterator over the deque
+     */
+    @Override
+    public java.util.Spliterator<T> spliterator() {
+        return new DequeSpliterator();
+    }
+
+    /**
+     * Returns a sequential stream over the elements from first to last.
+     *
+     * @return a stream over the deque
+     */
+    public java.util.stream.Stream<T> stream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the elements from first to
+     * last.
+     *
+     * @return a parallel stream over the deque
+     */
+    public java.util.stream.Stream<T> parallelStream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns the head node of the deque.
+     *
+     * For grading purposes only. You shouldn't need to use this method since
+     * you have direct access to the variable.
+     *
+     * @return node at the head of the deque
+     */
+    public LinkedNode<T> getHead() {
+        // DO NOT MODIFY THIS METHOD!
+        return head;
+    }
+
+    /**
+     * Returns the tail node of the deque.
+     *
+     * For grading purposes only. You shouldn't need to use this method since
+     * you have direct access to the variable.
+     *
+     * @return node at the head of the deque
+     */
+    public LinkedNode<T> getTail() {
+        // DO NOT MODIFY THIS METHOD!
+        return tail;
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * For grading purposes only. You shouldn't need to use this method since
+     * you have direct access to the variable.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        // DO NOT MODIFY THIS METHOD!
+        return size;
+    }
+
+    /**
+     * Walks the nodes in either direction.
+     */
+    private final class DequeIterator implements java.util.Iterator<T> {
+        private final boolean descending;
+        private int expectedModCount = modCount;
+        private LinkedNode<T> current;
+        private LinkedNode<T> lastReturned;
+
+        /**
+         * Creates an iterator at one end of the deque.
+         *
+         * @param descending true to iterate from last to first
+         */
+        private DequeIterator(boolean descending) {
+            this.descending = descending;
+            current = descending ? tail : head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            } else if (current == null) {
+                throw new java.util.NoSuchElementException("no more elements in deque");
+            }
+            lastReturned = current;
+            current = descending ? current.getPrevious() : current.getNext();
+            return lastReturned.getData();
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new java.lang.IllegalStateException("next has not been called since the last remove");
+            } else if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+            unlink(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Spliterator that splits off array batches from the front.
+     */
+    private final class DequeSpliterator implements java.util.Spliterator<T> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private final int expectedModCount = modCount;
+        private LinkedNode<T> current = head;
+        private int remaining = size;
+        private int batch;
+
+        @Override
+        public java.util.Spliterator<T> trySplit() {
+            checkForComodification();
+            if (remaining <= 1) {
+                return null;
+            }
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] elements = new Object[n];
+            for (int i = 0; i < n; i++) {
+                elements[i] = current.getData();
+                current = current.getNext();
+            }
+            batch = n;
+            remaining -= n;
+            return java.util.Spliterators.spliterator(elements, 0, n, ORDERED | NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(java.util.function.Consumer<? super T> action) {
+            if (action == null) {
+                throw new java.lang.NullPointerException();
+            }
+            checkForComodification();
+            if (remaining == 0) {
+                return false;
+            }
+            T data = current.getData();
+            current = current.getNext();
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(java.util.function.Consumer<? super T> action) {
+            if (action == null) {
+                throw new java.lang.NullPointerException();
+            }
+            checkForComodification();
+            LinkedNode<T> node = current;
+            for (int n = remaining; n > 0; n--) {
+                action.accept(node.getData());
+                node = node.getNext();
+                checkForComodification();
+            }
+            current = null;
+            remaining = 0;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+        /**
+         * Throws if the deque has been added to or removed from.
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Checks that index is in [0, bound).
+     *
+     * @param index the index to check
+     * @param bound one past the largest valid index
+     * @throws java.lang.IndexOutOfBoundsException if it is out of range
+     */
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new java.lang.IndexOutOfBoundsException("index " + index + " is out of bounds for "
+                + bound);
+        }
+    }
+
+    /**
+     * Returns the node at index, walking from the closest of the head, the
+     * tail and the finger, and moves the finger there.
+     *
+     * @param index a valid position in the deque
+     * @return the node at index
+     */
+    private LinkedNode<T> node(int index) {
+        LinkedNode<T> node;
+        int position;
+        if (index < size - 1 - index) {
+            node = head;
+            position = 0;
+        } else {
+            node = tail;
+            position = size - 1;
+        }
+        if (finger != null && fingerModCount == modCount
+            && Math.abs(index - fingerIndex) < Math.abs(index - position)) {
+            node = finger;
+            position = fingerIndex;
+        }
+        for (; position < index; position++) {
+            node = node.getNext();
+        }
+        for (; position > index; position--) {
+            node = node.getPrevious();
+        }
+        setFinger(node, index);
+        return node;
+    }
+
+    /**
+     * Points the finger at a node of the deque.
+     *
+     * @param node  the node
+     * @param index the position of the node
+     */
+    private void setFinger(LinkedNode<T> node, int index) {
+        finger = node;
+        fingerIndex = index;
+        fingerModCount = modCount;
+    }
+
+    /**
+     * Unlinks a node from anywhere in the deque and recycles it.
+     *
+     * @param node a node of this deque
+     */
+    private void unlink(LinkedNode<T> node) {
+        LinkedNode<T> previous = node.getPrevious();
+        LinkedNode<T> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        size--;
+        modCount++;
+        recycle(node);
+    }
+
+    /**
+     * Returns a node holding data, taken from the pool if one is available.
+     *
+     * @param data the data for the node
+     * @return an unlinked node holding data
+     */
+    private LinkedNode<T> newNode(T data) {
+        LinkedNode<T> node = pool;
+        if (node == null) {
+            return new LinkedNode<>(data);
+        } else {
+            pool = node.getNext();
+            poolSize--;
+            node.setNext(null);
+            node.setData(data);
+            return node;
+        }
+    }
+
+    /**
+     * Clears a node that has been unlinked from the deque and puts it in the
+     * pool if there is room.
+     *
+     * @param node the unlinked node
+     */
+    private void recycle(LinkedNode<T> node) {
+        node.setData(null);
+        node.setPrevious(null);
+        if (poolSize < poolCapacity) {
+            node.setNext(pool);
+            pool = node;
+            poolSize++;
+        } else {
+            node.setNext(null);
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package deque;
+
 /**
  * Node class used for implementing your linked data structures.
  *
@@ -43,6 +45,15 @@ public class LinkedNode<T> {
         return data;
     }
 
+    /**
+     * Sets the data.
+     *
+     * @param data the new data
+     */
+    void setData(T data) {
+        this.data = data;
+    }
+
     /**
      * Gets the previous node.
      *
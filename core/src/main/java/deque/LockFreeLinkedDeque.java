@@ -0,0 +1,357 @@
+package deque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A thread-safe, lock-free linked deque.
+ *
+ * Follows Michael's CAS-based deque: the two ends and the size live in an
+ * immutable anchor that is swapped with a single compare-and-set, and a push
+ * leaves the anchor marked unstable until the old end node has been linked
+ * to the new one with a second compare-and-set. Any thread that finds an
+ * unstable anchor finishes the link for the pusher, so no thread ever waits
+ * on another. Every operation is linearizable at the anchor swap or read.
+ *
+ * Same contract as LinkedDeque: null data is rejected with an
+ * IllegalArgumentException and removing from or peeking into an empty deque
+ * throws a NoSuchElementException.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class LockFreeLinkedDeque<T> {
+
+    private static final int STABLE = 0;
+    private static final int PUSHED_FIRST = 1;
+    private static final int PUSHED_LAST = 2;
+
+    private static final VarHandle ANCHOR;
+    private static final VarHandle NEXT;
+    private static final VarHandle PREVIOUS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ANCHOR = lookup.findVarHandle(LockFreeLinkedDeque.class, "anchor", Anchor.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            PREVIOUS = lookup.findVarHandle(Node.class, "previous", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Anchor<T> anchor = new Anchor<>(null, null, STABLE, 0);
+
+    /**
+     * Adds the element to the front of the deque.
+     *
+     * Lock-free.
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data into deque");
+        } else {
+            Node<T> node = new Node<>(data);
+            while (true) {
+                Anchor<T> a = anchor;
+                if (a.head == null) {
+                    if (ANCHOR.compareAndSet(this, a, new Anchor<>(node, node, STABLE, 1))) {
+                        return;
+                    }
+                } else if (a.status == STABLE) {
+                    node.next = a.head;
+                    Anchor<T> pushed = new Anchor<>(node, a.tail, PUSHED_FIRST, a.size + 1);
+                    if (ANCHOR.compareAndSet(this, a, pushed)) {
+                        stabilizeFirst(pushed);
+                        return;
+                    }
+                } else {
+                    stabilize(a);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque.
+     *
+     * Lock-free.
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data into deque");
+        } else {
+            Node<T> node = new Node<>(data);
+            while (true) {
+                Anchor<T> a = anchor;
+                if (a.tail == null) {
+                    if (ANCHOR.compareAndSet(this, a, new Anchor<>(node, node, STABLE, 1))) {
+                        return;
+                    }
+                } else if (a.status == STABLE) {
+                    node.previous = a.tail;
+                    Anchor<T> pushed = new Anchor<>(a.head, node, PUSHED_LAST, a.size + 1);
+                    if (ANCHOR.compareAndSet(this, a, pushed)) {
+                        stabilizeLast(pushed);
+                        return;
+                    }
+                } else {
+                    stabilize(a);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque.
+     *
+     * Lock-free.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.head == null) {
+                throw new java.util.NoSuchElementException("cannot remove data if deque is empty");
+            } else if (a.head == a.tail) {
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(null, null, STABLE, 0))) {
+                    return unlinkFirst(a.head);
+                }
+            } else if (a.status == STABLE) {
+                Node<T> next = (Node<T>) NEXT.getVolatile(a.head);
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(next, a.tail, STABLE, a.size - 1))) {
+                    return unlinkFirst(a.head);
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     *
+     * Lock-free.
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        while (true) {
+            Anchor<T> a = anchor;
+            if (a.tail == null) {
+                throw new java.util.NoSuchElementException("cannot remove data if deque is empty");
+            } else if (a.head == a.tail) {
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(null, null, STABLE, 0))) {
+                    return unlinkLast(a.tail);
+                }
+            } else if (a.status == STABLE) {
+                Node<T> previous = (Node<T>) PREVIOUS.getVolatile(a.tail);
+                if (ANCHOR.compareAndSet(this, a, new Anchor<>(a.head, previous, STABLE, a.size - 1))) {
+                    return unlinkLast(a.tail);
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Returns the first data of the deque without removing it.
+     *
+     * Lock-free.
+     *
+     * @return the data located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        while (true) {
+            Node<T> head = anchor.head;
+            if (head == null) {
+                throw new java.util.NoSuchElementException("cannot get data if deque is empty");
+            }
+            T data = head.data;
+            // null means the node was removed after the anchor was read
+            if (data != null) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Returns the last data of the deque without removing it.
+     *
+     * Lock-free.
+     *
+     * @return the data located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        while (true) {
+            Node<T> tail = anchor.tail;
+            if (tail == null) {
+                throw new java.util.NoSuchElementException("cannot get data if deque is empty");
+            }
+            T data = tail.data;
+            if (data != null) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Returns the size of the deque at some instant during the call.
+     *
+     * Must be O(1).
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return anchor.size;
+    }
+
+    /**
+     * Unlinks a node that has just been removed from the front of the anchor.
+     * The new head still links back to it, so its own previous link is cut
+     * to stop it from keeping every node removed before it reachable.
+     *
+     * @param node the removed node, now owned by the calling thread
+     * @return the data the node held
+     */
+    private T unlinkFirst(Node<T> node) {
+        // A self-link rather than null: a stale stabilizeFirst that read a
+        // null previous could otherwise still swing it back to a dead node.
+        node.previous = node;
+        return unlink(node);
+    }
+
+    /**
+     * Unlinks a node that has just been removed from the back of the anchor,
+     * cutting its next link for the same reason as unlinkFirst.
+     *
+     * @param node the removed node, now owned by the calling thread
+     * @return the data the node held
+     */
+    private T unlinkLast(Node<T> node) {
+        node.next = node;
+        return unlink(node);
+    }
+
+    /**
+     * Takes the data out of a node that has just been removed from the
+     * anchor, so the node does not keep it reachable.
+     *
+     * @param node the removed node, now owned by the calling thread
+     * @return the data the node held
+     */
+    private T unlink(Node<T> node) {
+        T data = node.data;
+        node.data = null;
+        return data;
+    }
+
+    /**
+     * Finishes the push recorded in an unstable anchor.
+     *
+     * @param a the anchor that was read
+     */
+    private void stabilize(Anchor<T> a) {
+        if (a.status == PUSHED_FIRST) {
+            stabilizeFirst(a);
+        } else {
+            stabilizeLast(a);
+        }
+    }
+
+    /**
+     * Links the old head back to the node pushed at the front, then marks
+     * the anchor stable.
+     *
+     * @param a the anchor holding the pushed node as head
+     */
+    private void stabilizeFirst(Anchor<T> a) {
+        Node<T> next = (Node<T>) NEXT.getVolatile(a.head);
+        if (anchor != a) {
+            return;
+        }
+        Node<T> nextPrevious = (Node<T>) PREVIOUS.getVolatile(next);
+        if (nextPrevious != a.head) {
+            if (anchor != a || !PREVIOUS.compareAndSet(next, nextPrevious, a.head)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, a, new Anchor<>(a.head, a.tail, STABLE, a.size));
+    }
+
+    /**
+     * Links the old tail forward to the node pushed at the back, then marks
+     * the anchor stable.
+     *
+     * @param a the anchor holding the pushed node as tail
+     */
+    private void stabilizeLast(Anchor<T> a) {
+        Node<T> previous = (Node<T>) PREVIOUS.getVolatile(a.tail);
+        if (anchor != a) {
+            return;
+        }
+        Node<T> previousNext = (Node<T>) NEXT.getVolatile(previous);
+        if (previousNext != a.tail) {
+            if (anchor != a || !NEXT.compareAndSet(previous, previousNext, a.tail)) {
+                return;
+            }
+        }
+        ANCHOR.compareAndSet(this, a, new Anchor<>(a.head, a.tail, STABLE, a.size));
+    }
+
+    /**
+     * An immutable snapshot of both ends of the deque.
+     */
+    private static final class Anchor<T> {
+        private final Node<T> head;
+        private final Node<T> tail;
+        private final int status;
+        private final int size;
+
+        /**
+         * Creates an anchor.
+         *
+         * @param head   the first node
+         * @param tail   the last node
+         * @param status STABLE, or which end has a push still to be linked
+         * @param size   the number of elements
+         */
+        private Anchor(Node<T> head, Node<T> tail, int status, int size) {
+            this.head = head;
+            this.tail = tail;
+            this.status = status;
+            this.size = size;
+        }
+    }
+
+    /**
+     * A node of the deque. The links are only updated through the VarHandles.
+     */
+    private static final class Node<T> {
+        private T data;
+        private volatile Node<T> previous;
+        private volatile Node<T> next;
+
+        /**
+         * Creates an unlinked node.
+         *
+         * @param data the data stored in the node
+         */
+        private Node(T data) {
+            this.data = data;
+        }
+    }
+}
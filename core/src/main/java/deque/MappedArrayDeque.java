@@ -0,0 +1,384 @@
+package deque;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A fixed-capacity deque of fixed-size records kept in a memory-mapped file,
+ * so queued records survive a restart of the process.
+ *
+ * The file starts with a header followed by capacity record slots used with
+ * the same circular front/size math as ArrayDeque. Records are encoded with
+ * an OffHeapArrayDeque.RecordCodec.
+ *
+ * The operating system writes dirty pages of a mapping back in no
+ * particular order, so the header is only written when the deque is
+ * synced: every forceInterval operations, on sync() and on close(). A sync
+ * first forces the record slots to the device, then writes front and size
+ * to one of two header slots, alternating between them, and forces the
+ * header. Each header slot carries a sequence number and a checksum, so if
+ * a crash tears a header write the other slot still holds the previous
+ * state. An add that would overwrite a record still live in the last synced
+ * state syncs first, so the records a synced header refers to are never
+ * overwritten before a newer header replaces it.
+ *
+ * Opening the file therefore recovers exactly the state of the last
+ * completed sync, after a process crash as well as an operating system
+ * crash or power loss, and operations since then are lost. Forcing is by
+ * far the most expensive part of an operation, so a larger interval trades
+ * durability of the latest operations for throughput.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class MappedArrayDeque<R> implements Closeable {
+
+    private static final int MAGIC = 0x44514d31;
+    private static final int SLOT_OFFSET = 16;
+    private static final int SLOT_SIZE = 24;
+    private static final int HEADER_SIZE = SLOT_OFFSET + 2 * SLOT_SIZE;
+
+    private final OffHeapArrayDeque.RecordCodec<R> codec;
+    private final int recordSize;
+    private final int capacity;
+    private final int forceInterval;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int front;
+    private int size;
+    private long sequence;
+    private int unforced;
+    // The front and size recorded by the last sync.
+    private int syncedFront;
+    private int syncedSize;
+
+    /**
+     * Opens the deque stored in file, creating the file if it does not exist
+     * and recovering the last published state if it does.
+     *
+     * @param file          the file holding the deque
+     * @param codec         converts records to and from their bytes
+     * @param capacity      the maximum number of records
+     * @param forceInterval force the file to the device every this many
+     *                      operations, or only on sync and close if 0
+     * @throws java.lang.IllegalArgumentException if codec is null, the
+     *                                            capacity or interval is out
+     *                                            of range, or an existing
+     *                                            file was created with a
+     *                                            different record size or
+     *                                            capacity
+     * @throws java.io.IOException if the file cannot be mapped or holds no
+     *                             valid header
+     */
+    public MappedArrayDeque(Path file, OffHeapArrayDeque.RecordCodec<R> codec, int capacity,
+                            int forceInterval) throws IOException {
+        if (codec == null) {
+            throw new java.lang.IllegalArgumentException("cannot use a null codec");
+        } else if (capacity <= 0 || forceInterval < 0) {
+            throw new java.lang.IllegalArgumentException("capacity must be positive and interval non-negative");
+        }
+        long length = HEADER_SIZE + (long) capacity * codec.recordSize();
+        if (codec.recordSize() <= 0 || length > Integer.MAX_VALUE) {
+            throw new java.lang.IllegalArgumentException("cannot map " + capacity + " records of "
+                + codec.recordSize() + " bytes");
+        }
+        this.codec = codec;
+        this.recordSize = codec.recordSize();
+        this.capacity = capacity;
+        this.forceInterval = forceInterval;
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        if (exists && Files.size(file) != length) {
+            throw new java.lang.IllegalArgumentException("file holds a deque of a different size");
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (exists) {
+                recover();
+            } else {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, recordSize);
+                buffer.putInt(8, capacity);
+                flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the record to the front of the deque.
+     *
+     * Must be O(1), plus a force every forceInterval operations or when the
+     * slot still holds a synced record.
+     *
+     * @param record the record to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if record is null
+     * @throws java.lang.IllegalStateException if the deque is full
+     */
+    public void addFirst(R record) {
+        checkAdd(record);
+        int index = front == 0 ? capacity - 1 : front - 1;
+        checkSynced(index);
+        codec.encode(record, buffer, offset(index));
+        front = index;
+        size++;
+        publish();
+    }
+
+    /**
+     * Adds the record to the back of the deque.
+     *
+     * Must be O(1), plus a force every forceInterval operations or when the
+     * slot still holds a synced record.
+     *
+     * @param record the record to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if record is null
+     * @throws java.lang.IllegalStateException if the deque is full
+     */
+    public void addLast(R record) {
+        checkAdd(record);
+        int index = wrap(front + size);
+        checkSynced(index);
+        codec.encode(record, buffer, offset(index));
+        size++;
+        publish();
+    }
+
+    /**
+     * Removes and returns the first record of the deque.
+     *
+     * Must be O(1), plus a force every forceInterval operations.
+     *
+     * @return the record formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R removeFirst() {
+        R record = getFirst();
+        front = wrap(front + 1);
+        size--;
+        publish();
+        return record;
+    }
+
+    /**
+     * Removes and returns the last record of the deque.
+     *
+     * Must be O(1), plus a force every forceInterval operations.
+     *
+     * @return the record formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R removeLast() {
+        R record = getLast();
+        size--;
+        publish();
+        return record;
+    }
+
+    /**
+     * Returns the first record of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the first record
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R getFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return codec.decode(buffer, offset(front));
+        }
+    }
+
+    /**
+     * Returns the last record of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the last record
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R getLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return codec.decode(buffer, offset(wrap(front + size - 1)));
+        }
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of records the deque can hold.
+     *
+     * @return the capacity of the deque
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Forces every operation so far to the storage device.
+     */
+    public void sync() {
+        if (unforced != 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Forces the record slots to the storage device, then writes front and
+     * size to the older header slot and forces the header.
+     */
+    private void flush() {
+        buffer.force(HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+        sequence++;
+        int slot = SLOT_OFFSET + (int) (sequence & 1) * SLOT_SIZE;
+        buffer.putInt(slot + 8, front);
+        buffer.putInt(slot + 12, size);
+        buffer.putLong(slot + 16, checksum(sequence, front, size));
+        buffer.putLong(slot, sequence);
+        buffer.force(0, HEADER_SIZE);
+        syncedFront = front;
+        syncedSize = size;
+        unforced = 0;
+    }
+
+    /**
+     * Forces the deque to the storage device and closes the file. The
+     * mapping itself is released when the deque is garbage collected.
+     *
+     * @throws java.io.IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            sync();
+            channel.close();
+        }
+    }
+
+    /**
+     * Checks that record can be added.
+     *
+     * @param record the record to add
+     */
+    private void checkAdd(R record) {
+        if (record == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else if (size == capacity) {
+            throw new java.lang.IllegalStateException("deque is full");
+        }
+    }
+
+    /**
+     * Syncs if the slot at index holds a record of the last synced state, so
+     * that overwriting it cannot corrupt what recovery would return.
+     *
+     * @param index the slot about to be written
+     */
+    private void checkSynced(int index) {
+        int distance = index - syncedFront;
+        if (distance < 0) {
+            distance += capacity;
+        }
+        if (distance < syncedSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Wraps an index in [0, 2 * capacity) into [0, capacity).
+     *
+     * @param index the index to wrap
+     * @return the wrapped index
+     */
+    private int wrap(int index) {
+        return index >= capacity ? index - capacity : index;
+    }
+
+    /**
+     * Returns the byte offset of the record slot at index.
+     *
+     * @param index the slot index
+     * @return the byte offset in the file
+     */
+    private int offset(int index) {
+        return HEADER_SIZE + index * recordSize;
+    }
+
+    /**
+     * Counts an operation and syncs if forceInterval operations have passed
+     * since the last sync.
+     */
+    private void publish() {
+        if (++unforced >= forceInterval && forceInterval != 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Restores front and size from the newest valid header slot.
+     *
+     * @throws java.io.IOException if the file holds no valid header
+     */
+    private void recover() throws IOException {
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("not a deque file");
+        } else if (buffer.getInt(4) != recordSize || buffer.getInt(8) != capacity) {
+            throw new java.lang.IllegalArgumentException("file holds " + buffer.getInt(8) + " records of "
+                + buffer.getInt(4) + " bytes");
+        }
+        boolean found = false;
+        for (int slot = SLOT_OFFSET; slot < HEADER_SIZE; slot += SLOT_SIZE) {
+            long slotSequence = buffer.getLong(slot);
+            int slotFront = buffer.getInt(slot + 8);
+            int slotSize = buffer.getInt(slot + 12);
+            if (buffer.getLong(slot + 16) == checksum(slotSequence, slotFront, slotSize)
+                && slotFront >= 0 && slotFront < capacity && slotSize >= 0 && slotSize <= capacity
+                && (!found || slotSequence > sequence)) {
+                found = true;
+                sequence = slotSequence;
+                front = slotFront;
+                size = slotSize;
+            }
+        }
+        if (!found) {
+            throw new IOException("no valid header in deque file");
+        }
+        syncedFront = front;
+        syncedSize = size;
+    }
+
+    /**
+     * Mixes a header slot into a checksum.
+     *
+     * @param slotSequence the slot's sequence number
+     * @param slotFront    the slot's front index
+     * @param slotSize     the slot's size
+     * @return the checksum
+     */
+    private static long checksum(long slotSequence, int slotFront, int slotSize) {
+        long hash = (slotSequence ^ MAGIC) * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (((long) slotFront << 32) | (slotSize & 0xFFFFFFFFL))) * 0xBF58476D1CE4E5B9L;
+        return hash ^ (hash >>> 31);
+    }
+}
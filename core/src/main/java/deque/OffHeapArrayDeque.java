@@ -0,0 +1,373 @@
+package deque;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * An ArrayDeque of fixed-size records stored off the Java heap.
+ *
+ * Uses the same circular layout as ArrayDeque, a front index and a size over
+ * a backing array, but the backing array is a direct ByteBuffer of
+ * capacity * recordSize bytes. The heap holds only the deque itself and the
+ * buffer object, nothing per element, so the garbage collector never scans
+ * the records. The capacity is always a power of two so that wrapping an
+ * index is a bit mask.
+ *
+ * Records go in and out through a RecordCodec. To avoid decoding whole
+ * records, claimFirst and claimLast reserve a slot and return its byte
+ * offset in getBuffer(), firstOffset and lastOffset return the offsets of
+ * the records at each end, and dropFirst and dropLast remove a record
+ * without reading it. Fields can then be read and written in place with
+ * the buffer's absolute get and put methods.
+ *
+ * The records live in a single ByteBuffer, which is indexed by int, so the
+ * buffer can hold at most Integer.MAX_VALUE bytes. The capacity is therefore
+ * limited to the largest power of two whose records fit in that many bytes,
+ * for example 2^27 records of 12 bytes or 2^26 records of 16 bytes, and
+ * adding past it throws an IllegalStateException.
+ *
+ * Growing allocates a buffer of twice the size, copies the records into it
+ * and drops the deque's reference to the old one. The old buffer's native
+ * memory is released by its Cleaner once the garbage collector finds it
+ * unreachable, never explicitly, because getBuffer() callers and codecs may
+ * still hold the buffer or views of it.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class OffHeapArrayDeque<R> {
+
+    /**
+     * The initial capacity, in records, of the OffHeapArrayDeque.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+
+    private final RecordCodec<R> codec;
+    private final int recordSize;
+    private ByteBuffer backingBuffer;
+    private int capacity;
+    private int front;
+    private int size;
+
+    /**
+     * Constructs a new OffHeapArrayDeque.
+     *
+     * @param codec converts records to and from their fixed-size bytes
+     * @throws java.lang.IllegalArgumentException if codec is null or its
+     *                                            record size is not positive
+     *                                            or too large for even the
+     *                                            initial capacity
+     */
+    public OffHeapArrayDeque(RecordCodec<R> codec) {
+        if (codec == null) {
+            throw new java.lang.IllegalArgumentException("cannot use a null codec");
+        } else if (codec.recordSize() <= 0) {
+            throw new java.lang.IllegalArgumentException("the record size must be positive");
+        } else if (codec.recordSize() > Integer.MAX_VALUE / INITIAL_CAPACITY) {
+            throw new java.lang.IllegalArgumentException("the record size is too large");
+        }
+        this.codec = codec;
+        recordSize = codec.recordSize();
+        capacity = INITIAL_CAPACITY;
+        backingBuffer = allocate(capacity);
+    }
+
+    /**
+     * Adds the record to the front of the deque. The record only becomes
+     * part of the deque once the codec has encoded it, so if encode throws
+     * the deque is left as it was.
+     *
+     * Must be amortized O(1).
+     *
+     * @param record the record to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if record is null
+     * @throws java.lang.IllegalStateException if the deque is full and
+     *                                         cannot grow
+     */
+    public void addFirst(R record) {
+        if (record == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (size == capacity) {
+                grow(1);
+            }
+            int index = (front - 1) & (capacity - 1);
+            codec.encode(record, backingBuffer, index * recordSize);
+            front = index;
+            size++;
+        }
+    }
+
+    /**
+     * Adds the record to the back of the deque. The record only becomes
+     * part of the deque once the codec has encoded it, so if encode throws
+     * the deque is left as it was.
+     *
+     * Must be amortized O(1).
+     *
+     * @param record the record to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if record is null
+     * @throws java.lang.IllegalStateException if the deque is full and
+     *                                         cannot grow
+     */
+    public void addLast(R record) {
+        if (record == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            if (size == capacity) {
+                grow(0);
+            }
+            int index = (front + size) & (capacity - 1);
+            codec.encode(record, backingBuffer, index * recordSize);
+            size++;
+        }
+    }
+
+    /**
+     * Removes and returns the first record of the deque.
+     *
+     * Must be O(1).
+     *
+     * @return the record formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R removeFirst() {
+        R record = codec.decode(backingBuffer, firstOffset());
+        dropFirst();
+        return record;
+    }
+
+    /**
+     * Removes and returns the last record of the deque.
+     *
+     * Must be O(1).
+     *
+     * @return the record formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R removeLast() {
+        R record = codec.decode(backingBuffer, lastOffset());
+        dropLast();
+        return record;
+    }
+
+    /**
+     * Returns the first record of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the first record
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R getFirst() {
+        return codec.decode(backingBuffer, firstOffset());
+    }
+
+    /**
+     * Returns the last record of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the last record
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public R getLast() {
+        return codec.decode(backingBuffer, lastOffset());
+    }
+
+    /**
+     * Reserves a slot at the front of the deque and returns its byte offset
+     * in getBuffer(). The slot's bytes are left as they were, so the caller
+     * should write every field.
+     *
+     * Must be amortized O(1).
+     *
+     * @return the offset of the new first record
+     * @throws java.lang.IllegalStateException if the deque is full and
+     *                                         cannot grow
+     */
+    public int claimFirst() {
+        if (size == capacity) {
+            grow(1);
+        }
+        front = (front - 1) & (capacity - 1);
+        size++;
+        return front * recordSize;
+    }
+
+    /**
+     * Reserves a slot at the back of the deque and returns its byte offset
+     * in getBuffer(). The slot's bytes are left as they were, so the caller
+     * should write every field.
+     *
+     * Must be amortized O(1).
+     *
+     * @return the offset of the new last record
+     * @throws java.lang.IllegalStateException if the deque is full and
+     *                                         cannot grow
+     */
+    public int claimLast() {
+        if (size == capacity) {
+            grow(0);
+        }
+        int index = (front + size) & (capacity - 1);
+        size++;
+        return index * recordSize;
+    }
+
+    /**
+     * Returns the byte offset in getBuffer() of the first record.
+     *
+     * Must be O(1).
+     *
+     * @return the offset of the first record
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int firstOffset() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return front * recordSize;
+        }
+    }
+
+    /**
+     * Returns the byte offset in getBuffer() of the last record.
+     *
+     * Must be O(1).
+     *
+     * @return the offset of the last record
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public int lastOffset() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot get data when deque is empty");
+        } else {
+            return ((front + size - 1) & (capacity - 1)) * recordSize;
+        }
+    }
+
+    /**
+     * Removes the first record without reading it.
+     *
+     * Must be O(1).
+     *
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public void dropFirst() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            front = (front + 1) & (capacity - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Removes the last record without reading it.
+     *
+     * Must be O(1).
+     *
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public void dropLast() {
+        if (size == 0) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            size--;
+        }
+    }
+
+    /**
+     * Returns the buffer holding the records, in native byte order. The deque
+     * replaces it when it grows, so fetch it again after adding.
+     *
+     * @return the backing buffer of the deque
+     */
+    public ByteBuffer getBuffer() {
+        return backingBuffer;
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes per record.
+     *
+     * @return the record size
+     */
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    /**
+     * Doubles the backing buffer, copying the records to the new buffer
+     * starting at record index offset with at most two block copies.
+     *
+     * @param offset where the first record goes in the new buffer
+     * @throws java.lang.IllegalStateException if the buffer cannot double
+     */
+    private void grow(int offset) {
+        int newCapacity = capacity << 1;
+        if (newCapacity <= 0 || (long) newCapacity * recordSize > Integer.MAX_VALUE) {
+            throw new java.lang.IllegalStateException("cannot grow deque beyond " + capacity + " records");
+        }
+        ByteBuffer newBuffer = allocate(newCapacity);
+        int firstPart = Math.min(size, capacity - front);
+        newBuffer.put(offset * recordSize, backingBuffer, front * recordSize, firstPart * recordSize);
+        newBuffer.put((offset + firstPart) * recordSize, backingBuffer, 0, (size - firstPart) * recordSize);
+        backingBuffer = newBuffer;
+        capacity = newCapacity;
+        front = offset;
+    }
+
+    /**
+     * Allocates a direct buffer for the given number of records.
+     *
+     * @param records the number of records
+     * @return the buffer, in native byte order
+     */
+    private ByteBuffer allocate(int records) {
+        return ByteBuffer.allocateDirect(records * recordSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Converts records to and from a fixed number of bytes.
+     *
+     * @param <R> the record type
+     */
+    public interface RecordCodec<R> {
+
+        /**
+         * Returns the number of bytes every record takes.
+         *
+         * @return the record size
+         */
+        int recordSize();
+
+        /**
+         * Writes the record at the given offset using absolute puts.
+         *
+         * @param record the record to write
+         * @param buffer the buffer to write into
+         * @param offset the byte offset of the record
+         */
+        void encode(R record, ByteBuffer buffer, int offset);
+
+        /**
+         * Reads the record at the given offset using absolute gets.
+         *
+         * @param buffer the buffer to read from
+         * @param offset the byte offset of the record
+         * @return the record
+         */
+        R decode(ByteBuffer buffer, int offset);
+    }
+}
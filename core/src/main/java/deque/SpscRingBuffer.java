@@ -0,0 +1,293 @@
+package deque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A bounded circular buffer for exactly one producer thread and one consumer
+ * thread.
+ *
+ * Uses the same circular layout as ArrayDeque, but front and back are kept as
+ * ever-increasing sequence numbers over a fixed power-of-two backing array.
+ * The producer only writes the tail sequence and the consumer only writes
+ * the head sequence, so no locks are needed: each side publishes with a
+ * release store and reads the other side with an acquire load. The two
+ * sequences are padded onto separate cache lines, and each side caches the
+ * last value it saw from the other side so that it only touches the other
+ * side's cache line when the buffer looks full or empty.
+ *
+ * offer and offerBatch may be called only by the producer, poll, peek,
+ * pollBatch and drain only by the consumer. size and capacity may be called
+ * from any thread.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class SpscRingBuffer<T> {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] backingArray;
+    private final int mask;
+    // the next sequence the consumer reads, cache holds the last tail it saw
+    private final PaddedSequence head = new PaddedSequence();
+    // the next sequence the producer writes, cache holds the last head it saw
+    private final PaddedSequence tail = new PaddedSequence();
+
+    /**
+     * Constructs a new SpscRingBuffer.
+     *
+     * @param capacity the minimum number of elements the buffer can hold,
+     *                 rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if capacity is not in
+     *                                            [1, 2^30]
+     */
+    public SpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new java.lang.IllegalArgumentException("the capacity must be in [1, 2^30]");
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        backingArray = new Object[length];
+        mask = length - 1;
+    }
+
+    /**
+     * Adds the element to the back of the buffer if there is room.
+     *
+     * Producer only. Must be O(1).
+     *
+     * @param data the data to add to the back of the buffer
+     * @return true if the element was added, false if the buffer is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to buffer");
+        }
+        long t = tail.value;
+        if (t - tail.cache == backingArray.length) {
+            tail.cache = (long) VALUE.getAcquire(head);
+            if (t - tail.cache == backingArray.length) {
+                return false;
+            }
+        }
+        backingArray[(int) t & mask] = data;
+        VALUE.setRelease(tail, t + 1);
+        return true;
+    }
+
+    /**
+     * Adds up to length elements from data, starting at offset, to the back
+     * of the buffer, and publishes them to the consumer all at once.
+     *
+     * Producer only. Must be O(length).
+     *
+     * @param data   the array holding the elements to add
+     * @param offset the index of the first element to add
+     * @param length the maximum number of elements to add
+     * @return the number of elements added, less than length if the buffer
+     *         filled up
+     * @throws java.lang.IllegalArgumentException if data or any element to
+     *                                            add is null, or the range is
+     *                                            out of bounds
+     */
+    public int offerBatch(T[] data, int offset, int length) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to buffer");
+        } else if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new java.lang.IllegalArgumentException("range [" + offset + ", " + offset + " + "
+                + length + ") is out of bounds for length " + data.length);
+        }
+        long t = tail.value;
+        int free = (int) (backingArray.length - (t - tail.cache));
+        if (free < length) {
+            tail.cache = (long) VALUE.getAcquire(head);
+            free = (int) (backingArray.length - (t - tail.cache));
+        }
+        int n = Math.min(free, length);
+        for (int i = 0; i < n; i++) {
+            if (data[offset + i] == null) {
+                throw new java.lang.IllegalArgumentException("cannot add null data to buffer");
+            }
+        }
+        int start = (int) t & mask;
+        int firstPart = Math.min(n, backingArray.length - start);
+        System.arraycopy(data, offset, backingArray, start, firstPart);
+        System.arraycopy(data, offset + firstPart, backingArray, 0, n - firstPart);
+        VALUE.setRelease(tail, t + n);
+        return n;
+    }
+
+    /**
+     * Removes and returns the first element of the buffer, if there is one.
+     *
+     * Consumer only. Must be O(1).
+     *
+     * @return the data formerly located at the front of the buffer, or null
+     *         if the buffer is empty
+     */
+    public T poll() {
+        long h = head.value;
+        if (h == head.cache) {
+            head.cache = (long) VALUE.getAcquire(tail);
+            if (h == head.cache) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        T data = (T) backingArray[index];
+        backingArray[index] = null;
+        VALUE.setRelease(head, h + 1);
+        return data;
+    }
+
+    /**
+     * Returns the first element of the buffer without removing it.
+     *
+     * Consumer only. Must be O(1).
+     *
+     * @return the first data, or null if the buffer is empty
+     */
+    public T peek() {
+        long h = head.value;
+        if (h == head.cache) {
+            head.cache = (long) VALUE.getAcquire(tail);
+            if (h == head.cache) {
+                return null;
+            }
+        }
+        return (T) backingArray[(int) h & mask];
+    }
+
+    /**
+     * Removes up to length elements from the front of the buffer, copies
+     * them into dest starting at offset, and releases their slots to the
+     * producer all at once.
+     *
+     * Consumer only. Must be O(length).
+     *
+     * @param dest   the array to copy the removed elements into
+     * @param offset the index in dest of the first removed element
+     * @param length the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws java.lang.IllegalArgumentException if dest is null or the
+     *                                            range is out of bounds
+     */
+    public int pollBatch(T[] dest, int offset, int length) {
+        if (dest == null) {
+            throw new java.lang.IllegalArgumentException("cannot remove data into a null array");
+        } else if (offset < 0 || length < 0 || offset > dest.length - length) {
+            throw new java.lang.IllegalArgumentException("range [" + offset + ", " + offset + " + "
+                + length + ") is out of bounds for length " + dest.length);
+        }
+        long h = head.value;
+        int available = (int) (head.cache - h);
+        if (available < length) {
+            head.cache = (long) VALUE.getAcquire(tail);
+            available = (int) (head.cache - h);
+        }
+        int n = Math.min(available, length);
+        int start = (int) h & mask;
+        int firstPart = Math.min(n, backingArray.length - start);
+        System.arraycopy(backingArray, start, dest, offset, firstPart);
+        System.arraycopy(backingArray, 0, dest, offset + firstPart, n - firstPart);
+        java.util.Arrays.fill(backingArray, start, start + firstPart, null);
+        java.util.Arrays.fill(backingArray, 0, n - firstPart, null);
+        VALUE.setRelease(head, h + n);
+        return n;
+    }
+
+    /**
+     * Removes up to maxElements elements from the front of the buffer and
+     * passes them, in order, to the action, releasing their slots to the
+     * producer all at once. If the action throws, the elements it was
+     * already given, including the one it threw on, stay removed and the
+     * rest stay in the buffer.
+     *
+     * Consumer only. Must be O(maxElements).
+     *
+     * @param action      the action to perform on each removed element
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws java.lang.IllegalArgumentException if action is null or
+     *                                            maxElements is negative
+     */
+    public int drain(java.util.function.Consumer<? super T> action, int maxElements) {
+        if (action == null) {
+            throw new java.lang.IllegalArgumentException("cannot perform a null action");
+        } else if (maxElements < 0) {
+            throw new java.lang.IllegalArgumentException("cannot drain a negative number of elements");
+        }
+        long h = head.value;
+        head.cache = (long) VALUE.getAcquire(tail);
+        int n = (int) Math.min(head.cache - h, maxElements);
+        int removed = 0;
+        try {
+            while (removed < n) {
+                int index = (int) (h + removed) & mask;
+                T data = (T) backingArray[index];
+                backingArray[index] = null;
+                removed++;
+                action.accept(data);
+            }
+        } finally {
+            // publish the cleared slots even if the action threw, so head
+            // never falls behind a null slot
+            VALUE.setRelease(head, h + removed);
+        }
+        return n;
+    }
+
+    /**
+     * Returns the number of elements in the buffer at some instant during the
+     * call. Either thread may call this.
+     *
+     * @return the size of the buffer
+     */
+    public int size() {
+        long h = (long) VALUE.getAcquire(head);
+        long t = (long) VALUE.getAcquire(tail);
+        return (int) Math.max(0, Math.min(backingArray.length, t - h));
+    }
+
+    /**
+     * Returns the capacity of the buffer.
+     *
+     * @return the number of elements the buffer can hold
+     */
+    public int capacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Cache line padding in front of a sequence.
+     */
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /**
+     * A sequence number owned by one side, plus that side's cached copy of
+     * the other side's sequence.
+     */
+    private static class Sequence extends LeftPadding {
+        long value;
+        long cache;
+    }
+
+    /**
+     * Cache line padding behind a sequence. Superclass fields are laid out
+     * first, so the sequence ends up between the two paddings.
+     */
+    private static final class PaddedSequence extends Sequence {
+        long p11, p12, p13, p14, p15, p16, p17;
+    }
+}
@@ -0,0 +1,278 @@
+package deque;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe view of an ArrayDeque or LinkedDeque for read-mostly use,
+ * such as monitoring threads watching a deque that is rarely changed.
+ *
+ * Writes take a StampedLock's write lock. Peeks and size first read the
+ * deque with no lock at all under an optimistic stamp, and keep the result
+ * only if no write started in the meantime; otherwise they read again under
+ * the read lock. Readers therefore never block writers or each other unless
+ * a write actually overlaps them. An optimistic read can see the deque
+ * halfway through a write, so anything it throws is discarded unless the
+ * stamp is still valid.
+ *
+ * The wrapped deque must not be used directly once it is wrapped. Same
+ * contract as the wrapped deque: null data is rejected with an
+ * IllegalArgumentException and removing from or getting from an empty deque
+ * throws a NoSuchElementException.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class StampedDeque<T> {
+
+    private final java.util.Deque<T> deque;
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Constructs a new StampedDeque around an ArrayDeque.
+     *
+     * @param deque the deque to guard
+     * @throws java.lang.IllegalArgumentException if deque is null
+     */
+    public StampedDeque(ArrayDeque<T> deque) {
+        if (deque == null) {
+            throw new java.lang.IllegalArgumentException("cannot wrap a null deque");
+        }
+        this.deque = deque;
+    }
+
+    /**
+     * Constructs a new StampedDeque around a LinkedDeque. Only the ends and
+     * the size are read, so the LinkedDeque's index cache is never touched
+     * by concurrent readers.
+     *
+     * @param deque the deque to guard
+     * @throws java.lang.IllegalArgumentException if deque is null
+     */
+    public StampedDeque(LinkedDeque<T> deque) {
+        if (deque == null) {
+            throw new java.lang.IllegalArgumentException("cannot wrap a null deque");
+        }
+        this.deque = deque;
+    }
+
+    /**
+     * Adds the element to the front of the deque under the write lock.
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+        long stamp = lock.writeLock();
+        try {
+            deque.addFirst(data);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds the element to the back of the deque under the write lock.
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        long stamp = lock.writeLock();
+        try {
+            deque.addLast(data);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque under the write
+     * lock, or returns null if the deque is empty.
+     *
+     * @return the data formerly located at the front of the deque, or null
+     */
+    public T pollFirst() {
+        long stamp = lock.writeLock();
+        try {
+            return deque.pollFirst();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque under the write
+     * lock, or returns null if the deque is empty.
+     *
+     * @return the data formerly located at the back of the deque, or null
+     */
+    public T pollLast() {
+        long stamp = lock.writeLock();
+        try {
+            return deque.pollLast();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the deque under the write
+     * lock.
+     *
+     * @return the data formerly located at the front of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeFirst() {
+        long stamp = lock.writeLock();
+        try {
+            return deque.removeFirst();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the deque under the write
+     * lock.
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T removeLast() {
+        long stamp = lock.writeLock();
+        try {
+            return deque.removeLast();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes every element under the write lock.
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            deque.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the first data of the deque without removing it, or null if
+     * the deque is empty.
+     *
+     * @return the first data, or null
+     */
+    public T peekFirst() {
+        return read(java.util.Deque::peekFirst);
+    }
+
+    /**
+     * Returns the last data of the deque without removing it, or null if the
+     * deque is empty.
+     *
+     * @return the last data, or null
+     */
+    public T peekLast() {
+        return read(java.util.Deque::peekLast);
+    }
+
+    /**
+     * Returns the first data of the deque without removing it.
+     *
+     * @return the first data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getFirst() {
+        return read(java.util.Deque::getFirst);
+    }
+
+    /**
+     * Returns the last data of the deque without removing it.
+     *
+     * @return the last data
+     * @throws java.util.NoSuchElementException if the deque is empty
+     */
+    public T getLast() {
+        return read(java.util.Deque::getLast);
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            int size = deque.size();
+            if (lock.validate(stamp)) {
+                return size;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return deque.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns whether the deque is empty.
+     *
+     * @return true if the deque has no elements
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns whether the deque contains the element, searching under the
+     * read lock since a search is too long to be worth retrying.
+     *
+     * @param data the data to look for
+     * @return true if an element equal to data is in the deque
+     */
+    public boolean contains(Object data) {
+        long stamp = lock.readLock();
+        try {
+            return deque.contains(data);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Applies a short, side-effect-free read to the deque, first without
+     * locking and then, if a write overlapped it, under the read lock.
+     *
+     * @param reader the read to apply
+     * @param <R>    the type of the result
+     * @return what reader returned from a consistent deque
+     */
+    private <R> R read(java.util.function.Function<java.util.Deque<T>, R> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = reader.apply(deque);
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // a consistent deque threw it, so it is the real answer
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.apply(deque);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
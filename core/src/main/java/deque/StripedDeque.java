@@ -0,0 +1,305 @@
+package deque;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe deque split into several lanes, each an ArrayDeque behind
+ * its own lock, for many producers and consumers at once.
+ *
+ * Each thread has a probe that picks its home lane. Adds go to the home lane
+ * and polls start there, so threads on different lanes never touch the same
+ * lock or the same end of an array. When a lane's lock is busy the thread
+ * moves its probe on to another lane, and a poll that finds its home lane
+ * empty takes from the other lanes in turn. With balancing on, an add also
+ * looks at a second lane and picks the shorter of the two, which keeps the
+ * lanes close in length under skewed producers.
+ *
+ * The order is relaxed: elements in one lane come out first in, first out,
+ * but nothing orders elements that went into different lanes. Without
+ * balancing, a thread that is never contended keeps its home lane, so it
+ * sees its own adds in order. The size is the sum of per-lane counts read
+ * without locking, and is only an estimate while other threads are adding or
+ * polling.
+ *
+ * Same contract as ArrayDeque: null data is rejected with an
+ * IllegalArgumentException and removing from an empty deque throws a
+ * NoSuchElementException.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class StripedDeque<T> {
+
+    // Each thread's probe, kept in an array so it can be updated in place.
+    // Never 0, so that rehashing never gets stuck.
+    private static final ThreadLocal<int[]> PROBE =
+        ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+
+    private final Lane<T>[] lanes;
+    // lanes.length - 1, the lane count being a power of two
+    private final int mask;
+    private final boolean balanced;
+
+    /**
+     * Constructs a new StripedDeque with a lane for every available
+     * processor, rounded up to a power of two, and without balancing.
+     */
+    public StripedDeque() {
+        this(Runtime.getRuntime().availableProcessors(), false);
+    }
+
+    /**
+     * Constructs a new StripedDeque.
+     *
+     * @param laneCount the number of lanes, rounded up to a power of two
+     * @param balanced  true to add to the shorter of two lanes
+     * @throws java.lang.IllegalArgumentException if laneCount is not between
+     *                                            1 and 2^30
+     */
+    public StripedDeque(int laneCount, boolean balanced) {
+        if (laneCount < 1 || laneCount > 1 << 30) {
+            throw new java.lang.IllegalArgumentException("the lane count must be between 1 and 2^30");
+        }
+        int length = Integer.highestOneBit(laneCount);
+        if (length < laneCount) {
+            length <<= 1;
+        }
+        lanes = (Lane<T>[]) new Lane<?>[length];
+        for (int i = 0; i < length; i++) {
+            lanes[i] = new Lane<>();
+        }
+        mask = length - 1;
+        this.balanced = balanced;
+    }
+
+    /**
+     * Adds the element to the front of a lane.
+     *
+     * @param data the data to add to the front of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            Lane<T> lane = lockForAdd();
+            try {
+                lane.deque.addFirst(data);
+                lane.size = lane.deque.size();
+            } finally {
+                lane.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds the element to the back of a lane.
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        } else {
+            Lane<T> lane = lockForAdd();
+            try {
+                lane.deque.addLast(data);
+                lane.size = lane.deque.size();
+            } finally {
+                lane.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the first element of the home lane, or of the
+     * first other lane that has one.
+     *
+     * @return the removed data, or null if every lane was empty when looked
+     *         at
+     */
+    public T pollFirst() {
+        return poll(true);
+    }
+
+    /**
+     * Removes and returns the last element of the home lane, or of the first
+     * other lane that has one.
+     *
+     * @return the removed data, or null if every lane was empty when looked
+     *         at
+     */
+    public T pollLast() {
+        return poll(false);
+    }
+
+    /**
+     * Removes and returns the first element of the home lane, or of the
+     * first other lane that has one.
+     *
+     * @return the removed data
+     * @throws java.util.NoSuchElementException if every lane was empty when
+     *                                          looked at
+     */
+    public T removeFirst() {
+        T data = poll(true);
+        if (data == null) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            return data;
+        }
+    }
+
+    /**
+     * Removes and returns the last element of the home lane, or of the first
+     * other lane that has one.
+     *
+     * @return the removed data
+     * @throws java.util.NoSuchElementException if every lane was empty when
+     *                                          looked at
+     */
+    public T removeLast() {
+        T data = poll(false);
+        if (data == null) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        } else {
+            return data;
+        }
+    }
+
+    /**
+     * Returns the number of elements, summed over the lanes without locking
+     * them. Exact only when no other thread is adding or polling.
+     *
+     * Must be O(number of lanes).
+     *
+     * @return the estimated size of the deque
+     */
+    public int size() {
+        long sum = 0;
+        for (Lane<T> lane : lanes) {
+            sum += lane.size;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of lanes.
+     *
+     * @return the lane count
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Locks the lane the calling thread should add to. Tries each lane the
+     * probe moves through once without waiting, and only blocks if all of
+     * them were busy.
+     *
+     * @return the locked lane
+     */
+    private Lane<T> lockForAdd() {
+        int[] probe = PROBE.get();
+        int h = probe[0];
+        for (int attempt = 0; attempt <= mask; attempt++) {
+            Lane<T> lane = lanes[h & mask];
+            if (balanced) {
+                Lane<T> other = lanes[(h >>> 16) & mask];
+                if (other.size < lane.size) {
+                    lane = other;
+                }
+            }
+            if (lane.lock.tryLock()) {
+                probe[0] = h;
+                return lane;
+            }
+            h = rehash(h);
+        }
+        probe[0] = h;
+        Lane<T> lane = lanes[h & mask];
+        lane.lock.lock();
+        return lane;
+    }
+
+    /**
+     * Removes an element from the home lane or, failing that, the next lane
+     * after it that has one. The first pass skips busy lanes, and the second
+     * waits for the lanes that still look non-empty.
+     *
+     * @param first true to remove from the front of a lane, false from the
+     *              back
+     * @return the removed data, or null if every lane was empty
+     */
+    private T poll(boolean first) {
+        int[] probe = PROBE.get();
+        int home = probe[0] & mask;
+        for (int i = 0; i <= mask; i++) {
+            Lane<T> lane = lanes[(home + i) & mask];
+            if (lane.size > 0) {
+                if (lane.lock.tryLock()) {
+                    T data = pollLocked(lane, first);
+                    if (data != null) {
+                        return data;
+                    }
+                } else if (i == 0) {
+                    probe[0] = rehash(probe[0]);
+                }
+            }
+        }
+        for (int i = 0; i <= mask; i++) {
+            Lane<T> lane = lanes[(home + i) & mask];
+            if (lane.size > 0) {
+                lane.lock.lock();
+                T data = pollLocked(lane, first);
+                if (data != null) {
+                    return data;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes an element from a lane the calling thread has locked, then
+     * unlocks it.
+     *
+     * @param lane  the locked lane
+     * @param first true to remove from the front, false from the back
+     * @return the removed data, or null if the lane was empty
+     */
+    private T pollLocked(Lane<T> lane, boolean first) {
+        try {
+            T data = first ? lane.deque.pollFirst() : lane.deque.pollLast();
+            lane.size = lane.deque.size();
+            return data;
+        } finally {
+            lane.lock.unlock();
+        }
+    }
+
+    /**
+     * Moves a probe to another pseudo-random value with a xorshift step.
+     *
+     * @param h the probe, not 0
+     * @return the next probe, not 0
+     */
+    private static int rehash(int h) {
+        h ^= h << 13;
+        h ^= h >>> 17;
+        h ^= h << 5;
+        return h;
+    }
+
+    /**
+     * One lane: a power-of-two ArrayDeque and the lock that guards it.
+     */
+    private static final class Lane<T> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<T> deque = new ArrayDeque<>(true);
+        // deque.size(), written under the lock and read without it
+        private volatile int size;
+    }
+}
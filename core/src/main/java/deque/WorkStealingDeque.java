@@ -0,0 +1,187 @@
+package deque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A Chase-Lev work-stealing deque.
+ *
+ * Uses the circular backing array layout of ArrayDeque, with the front and
+ * back kept as ever-increasing indices top and bottom. One owner thread adds
+ * and removes at the back, like a stack, without locks and without a
+ * compare-and-set except when taking the very last element. Any number of
+ * other threads may steal from the front, each steal being one
+ * compare-and-set on top. The backing array grows by doubling when full, and
+ * only the owner ever writes to it.
+ *
+ * addLast, removeLast and pollLast may be called only by the owner thread,
+ * stealFirst and size by any thread.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class WorkStealingDeque<T> {
+
+    /**
+     * The initial capacity of the WorkStealingDeque.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private static final VarHandle TOP;
+    private static final VarHandle BOTTOM;
+    private static final VarHandle ARRAY;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TOP = lookup.findVarHandle(WorkStealingDeque.class, "top", long.class);
+            BOTTOM = lookup.findVarHandle(WorkStealingDeque.class, "bottom", long.class);
+            ARRAY = lookup.findVarHandle(WorkStealingDeque.class, "backingArray", Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // the index of the first element, only ever incremented by a CAS
+    private volatile long top;
+    // one past the index of the last element, only written by the owner
+    private long bottom;
+    private Object[] backingArray = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Adds the element to the back of the deque.
+     *
+     * Owner only. Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the deque
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("cannot add null data to deque");
+        }
+        long b = bottom;
+        long t = (long) TOP.getAcquire(this);
+        Object[] array = backingArray;
+        if (b - t >= array.length) {
+            array = grow(array, t, b);
+        }
+        array[(int) b & (array.length - 1)] = data;
+        BOTTOM.setRelease(this, b + 1);
+    }
+
+    /**
+     * Removes and returns the last element of the deque, if there is one.
+     *
+     * Owner only. Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque, or null if
+     *         the deque is empty or the last element was stolen
+     */
+    public T pollLast() {
+        long b = bottom - 1;
+        Object[] array = backingArray;
+        // the full fence orders this store before the read of top, so a
+        // thief and the owner cannot both take the last element
+        BOTTOM.setVolatile(this, b);
+        long t = top;
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+        int index = (int) b & (array.length - 1);
+        T data = (T) array[index];
+        if (t == b) {
+            // last element, race the thieves for it
+            if (!TOP.compareAndSet(this, t, t + 1)) {
+                data = null;
+            }
+            bottom = b + 1;
+        } else {
+            array[index] = null;
+        }
+        return data;
+    }
+
+    /**
+     * Removes and returns the last element of the deque.
+     *
+     * Owner only. Must be O(1).
+     *
+     * @return the data formerly located at the back of the deque
+     * @throws java.util.NoSuchElementException if the deque is empty or the
+     *                                          last element was stolen
+     */
+    public T removeLast() {
+        T data = pollLast();
+        if (data == null) {
+            throw new java.util.NoSuchElementException("cannot remove data when deque is empty");
+        }
+        return data;
+    }
+
+    /**
+     * Tries to remove and return the first element of the deque.
+     *
+     * Any thread. Lock-free, O(1). A null return means the deque was empty
+     * or another thread took the element first. In the second case the
+     * caller can retry.
+     *
+     * Stolen slots are not cleared, since the owner may already be reusing
+     * them, so a stolen element stays reachable until the owner overwrites
+     * its slot.
+     *
+     * @return the data formerly located at the front of the deque, or null
+     */
+    public T stealFirst() {
+        long t = (long) TOP.getAcquire(this);
+        VarHandle.fullFence();
+        long b = (long) BOTTOM.getAcquire(this);
+        if (t >= b) {
+            return null;
+        }
+        Object[] array = (Object[]) ARRAY.getAcquire(this);
+        T data = (T) array[(int) t & (array.length - 1)];
+        if (!TOP.compareAndSet(this, t, t + 1)) {
+            return null;
+        }
+        return data;
+    }
+
+    /**
+     * Returns the number of elements in the deque at some instant during the
+     * call.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        long b = (long) BOTTOM.getAcquire(this);
+        long t = top;
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Copies the elements into a backing array of double the length and
+     * publishes it to thieves. The old array is left as it was, so a thief
+     * still reading it sees valid elements.
+     *
+     * @param array the current backing array
+     * @param t     the current top
+     * @param b     the current bottom
+     * @return the new backing array
+     * @throws java.lang.IllegalStateException if the array cannot double
+     */
+    private Object[] grow(Object[] array, long t, long b) {
+        int newLength = array.length << 1;
+        if (newLength <= 0) {
+            throw new java.lang.IllegalStateException("cannot grow deque beyond " + array.length
+                + " elements");
+        }
+        Object[] newArray = new Object[newLength];
+        for (long i = t; i < b; i++) {
+            newArray[(int) i & (newLength - 1)] = array[(int) i & (array.length - 1)];
+        }
+        ARRAY.setRelease(this, newArray);
+        return newArray;
+    }
+}
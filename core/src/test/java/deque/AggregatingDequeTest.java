@@ -0,0 +1,87 @@
+package deque;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for AggregatingArrayDeque, AggregatingLongDeque and
+ * AggregatingDoubleDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class AggregatingDequeTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testSlidingMinMax() {
+        AggregatingArrayDeque<String> window = new AggregatingArrayDeque<>(Comparator.naturalOrder());
+        String[] data = {"d", "b", "b", "e", "a", "c", "f"};
+        String[] mins = {"b", "b", "a", "a", "a"};
+        String[] maxes = {"d", "e", "e", "e", "f"};
+        for (int i = 0; i < data.length; i++) {
+            window.addLast(data[i]);
+            if (window.size() > 3) {
+                window.removeFirst();
+            }
+            if (i >= 2) {
+                assertEquals(mins[i - 2], window.getMin());
+                assertEquals(maxes[i - 2], window.getMax());
+            }
+        }
+        assertEquals("a", window.getFirst());
+        assertEquals("f", window.getLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLongAggregates() {
+        AggregatingLongDeque window = new AggregatingLongDeque();
+        window.addLast(Long.MAX_VALUE);
+        window.addLast(Long.MAX_VALUE);
+        window.addLast(-5);
+        assertEquals(Long.MAX_VALUE, window.removeFirst());
+        assertEquals(Long.MAX_VALUE, window.removeFirst());
+        // the running total overflowed on the way but the window sum is exact
+        assertEquals(-5, window.getSum());
+        window.addLast(10);
+        window.addLast(1);
+        assertEquals(-5, window.getMin());
+        assertEquals(10, window.getMax());
+        assertEquals(6, window.getSum());
+        assertEquals(2.0, window.getMean(), 0.0);
+        assertEquals(3, window.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDoubleSumDoesNotDrift() {
+        AggregatingDoubleDeque window = new AggregatingDoubleDeque();
+        window.addLast(1e16);
+        for (int i = 0; i < 1000; i++) {
+            window.addLast(0.1);
+            if (window.size() > 10) {
+                window.removeFirst();
+            }
+        }
+        assertEquals(1.0, window.getSum(), 1e-12);
+        assertEquals(0.1, window.getMean(), 1e-12);
+        assertEquals(0.1, window.getMax(), 0.0);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testDoubleRejectsNaN() {
+        new AggregatingDoubleDeque().addLast(Double.NaN);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testMeanOfEmptyWindow() {
+        AggregatingLongDeque window = new AggregatingLongDeque();
+        window.addLast(1);
+        window.removeFirst();
+        window.getMean();
+    }
+}
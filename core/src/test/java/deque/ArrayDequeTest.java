@@ -0,0 +1,467 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the ArrayDeque features that go beyond the basic deque
+ * operations covered by DequeStudentTest.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class ArrayDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private ArrayDeque<Integer> pow2;
+
+    @Before
+    public void setup() {
+        pow2 = new ArrayDeque<>(true);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPowerOfTwoInitialization() {
+        assertTrue(pow2.isPowerOfTwoCapacity());
+        assertFalse(new ArrayDeque<Integer>().isPowerOfTwoCapacity());
+        assertEquals(0, pow2.size());
+        Object[] backing = pow2.getBackingArray();
+        assertEquals(ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY, backing.length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPowerOfTwoWrapAroundAndResize() {
+        int capacity = ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY;
+        for (int i = 0; i < capacity; i++) {
+            pow2.addFirst(-i);
+        }
+        // the array is full and front has wrapped to index 0
+        Object[] backing = pow2.getBackingArray();
+        assertEquals(capacity, backing.length);
+        assertEquals(Integer.valueOf(-(capacity - 1)), backing[0]);
+
+        pow2.addLast(1);
+        backing = pow2.getBackingArray();
+        assertEquals(capacity * 2, backing.length);
+        assertEquals(capacity + 1, pow2.size());
+        assertEquals(Integer.valueOf(-(capacity - 1)), pow2.getFirst());
+        assertEquals(Integer.valueOf(1), pow2.getLast());
+
+        for (int i = capacity - 1; i >= 0; i--) {
+            assertEquals(Integer.valueOf(-i), pow2.removeFirst());
+        }
+        assertEquals(Integer.valueOf(1), pow2.removeLast());
+        assertEquals(0, pow2.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllLastGrowsOnce() {
+        ArrayDeque<Integer> array = new ArrayDeque<>();
+        array.addFirst(-1); // front wraps to the end of the array
+        Integer[] batch = new Integer[30];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = i;
+        }
+        array.addAllLast(batch);
+
+        assertEquals(31, array.size());
+        Object[] backing = array.getBackingArray();
+        assertEquals(31, backing.length);
+        assertEquals(Integer.valueOf(-1), array.getFirst());
+        assertEquals(Integer.valueOf(29), array.getLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAllFirstKeepsOrder() {
+        ArrayDeque<Integer> array = new ArrayDeque<>();
+        array.addLast(3);
+        array.addAllFirst(Arrays.asList(0, 1, 2));
+        array.addAllLast(Arrays.asList(4, 5));
+
+        Integer[] dest = new Integer[6];
+        array.removeFirst(dest, 6);
+        assertArrayEquals(new Integer[] {0, 1, 2, 3, 4, 5}, dest);
+        assertEquals(0, array.size());
+        assertArrayEquals(new Object[ArrayDeque.INITIAL_CAPACITY], array.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddAllRejectsNullElement() {
+        pow2.addLast(0);
+        try {
+            pow2.addAllLast(new Integer[] {1, null});
+        } finally {
+            assertEquals(1, pow2.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainToWrapAround() {
+        for (int i = 0; i < 10; i++) {
+            pow2.addFirst(i);
+        }
+        pow2.addLast(-1);
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(8, pow2.drainTo(drained, 8));
+        assertEquals(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2), drained);
+        assertEquals(3, pow2.drainTo(drained, 100));
+        assertEquals(0, pow2.size());
+        assertEquals(Integer.valueOf(-1), drained.get(10));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainToRejectingTargetMovesEachElementOnce() {
+        for (int i = 0; i < 10; i++) {
+            pow2.addFirst(i);
+        }
+        ArrayBlockingQueue<Integer> bounded = new ArrayBlockingQueue<>(3);
+        try {
+            pow2.drainTo(bounded, 8);
+            fail("the full queue should have rejected an element");
+        } catch (IllegalStateException e) {
+            assertEquals(Arrays.asList(9, 8, 7), new ArrayList<>(bounded));
+            assertEquals(7, pow2.size());
+            assertEquals(Integer.valueOf(6), pow2.getFirst());
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFirstTooMany() {
+        pow2.addLast(0);
+        pow2.removeFirst(new Integer[2], 2);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testResizeWithWrapAroundUsesPolicy() {
+        ArrayDeque<Integer> array = new ArrayDeque<>(ArrayDeque.GrowthPolicy.ONE_AND_A_HALF);
+        for (int i = 0; i < 6; i++) {
+            array.addLast(i);
+        }
+        for (int i = 1; i <= 5; i++) {
+            array.addFirst(-i);
+        }
+        array.addFirst(-6);
+
+        Object[] backing = array.getBackingArray();
+        assertEquals(16, backing.length);
+        assertEquals(Integer.valueOf(-6), backing[0]);
+        assertEquals(Integer.valueOf(-5), backing[1]);
+        assertEquals(Integer.valueOf(5), backing[11]);
+        assertEquals(Integer.valueOf(-6), array.getFirst());
+        assertEquals(Integer.valueOf(5), array.getLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFixedIncrementCapped() {
+        ArrayDeque<Integer> array = new ArrayDeque<>(ArrayDeque.GrowthPolicy.fixedIncrement(5, 13));
+        for (int i = 0; i < 12; i++) {
+            array.addLast(i);
+        }
+        Object[] backing = array.getBackingArray();
+        assertEquals(13, backing.length);
+        array.addFirst(-1);
+        try {
+            array.addLast(12);
+            fail("expected the deque to be full");
+        } catch (IllegalStateException e) {
+            assertEquals(13, array.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEnsureCapacity() {
+        ArrayDeque<Integer> array = new ArrayDeque<>();
+        array.addFirst(1);
+        array.addFirst(0);
+        array.ensureCapacity(100);
+
+        Object[] backing = array.getBackingArray();
+        assertEquals(100, backing.length);
+        assertEquals(Integer.valueOf(0), backing[0]);
+        assertEquals(Integer.valueOf(1), backing[1]);
+
+        array.ensureCapacity(50);
+        assertSame(backing, array.getBackingArray());
+
+        pow2.ensureCapacity(100);
+        backing = pow2.getBackingArray();
+        assertEquals(128, backing.length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShrinkOnUnderflowAfterBurst() {
+        pow2.setShrinkOnUnderflow(true);
+        for (int i = 0; i < 1024; i++) {
+            pow2.addLast(i);
+        }
+        Object[] backing = pow2.getBackingArray();
+        assertEquals(1024, backing.length);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), pow2.removeFirst());
+        }
+        backing = pow2.getBackingArray();
+        assertEquals(64, backing.length);
+        assertEquals(Integer.valueOf(1000), pow2.getFirst());
+        assertEquals(Integer.valueOf(1023), pow2.getLast());
+
+        while (pow2.size() > 0) {
+            pow2.removeLast();
+        }
+        backing = pow2.getBackingArray();
+        assertEquals(ArrayDeque.POWER_OF_TWO_INITIAL_CAPACITY, backing.length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testShrinkHysteresis() {
+        pow2.setShrinkOnUnderflow(true);
+        for (int i = 0; i < 33; i++) {
+            pow2.addLast(i);
+        }
+        Object[] grown = pow2.getBackingArray();
+        assertEquals(64, grown.length);
+
+        // hovering around the size that triggered the resize does not shrink
+        for (int i = 0; i < 100; i++) {
+            pow2.removeLast();
+            pow2.addLast(i);
+        }
+        assertSame(grown, pow2.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testNoShrinkByDefault() {
+        for (int i = 0; i < 100; i++) {
+            pow2.addLast(i);
+        }
+        Object[] grown = pow2.getBackingArray();
+        while (pow2.size() > 0) {
+            pow2.removeFirst();
+        }
+        assertSame(grown, pow2.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTrimToSize() {
+        ArrayDeque<Integer> array = new ArrayDeque<>();
+        for (int i = 0; i < 5; i++) {
+            array.addFirst(i);
+        }
+        array.trimToSize();
+        assertArrayEquals(new Object[] {4, 3, 2, 1, 0}, array.getBackingArray());
+
+        array.addLast(-1);
+        Object[] backing = array.getBackingArray();
+        assertEquals(10, backing.length);
+        assertEquals(Integer.valueOf(-1), array.getLast());
+
+        for (int i = 0; i < 5; i++) {
+            pow2.addLast(i);
+        }
+        pow2.trimToSize();
+        backing = pow2.getBackingArray();
+        assertEquals(8, backing.length);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterators() {
+        for (int i = 0; i < 10; i++) {
+            pow2.addFirst(-i);
+            pow2.addLast(i);
+        }
+        List<Integer> ascending = new ArrayList<>();
+        pow2.iterator().forEachRemaining(ascending::add);
+        List<Integer> descending = new ArrayList<>();
+        pow2.descendingIterator().forEachRemaining(descending::add);
+        assertEquals(20, ascending.size());
+        assertEquals(Integer.valueOf(-9), ascending.get(0));
+        assertEquals(Integer.valueOf(9), ascending.get(19));
+        Collections.reverse(descending);
+        assertEquals(ascending, descending);
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testIteratorFailsFast() {
+        pow2.addLast(1);
+        pow2.addLast(2);
+        Iterator<Integer> iterator = pow2.iterator();
+        iterator.next();
+        pow2.removeLast();
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpliteratorSplitsWrappedRange() {
+        for (int i = 0; i < 8; i++) {
+            pow2.addLast(i);
+        }
+        for (int i = 0; i < 8; i++) {
+            pow2.removeFirst();
+        }
+        for (int i = 0; i < 16; i++) {
+            pow2.addLast(i);
+        }
+        Spliterator<Integer> suffix = pow2.spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertEquals(8, prefix.estimateSize());
+        assertEquals(8, suffix.estimateSize());
+        List<Integer> elements = new ArrayList<>();
+        prefix.forEachRemaining(elements::add);
+        suffix.forEachRemaining(elements::add);
+        for (int i = 0; i < 16; i++) {
+            assertEquals(Integer.valueOf(i), elements.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT * 10)
+    public void testParallelStream() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 1; i <= 100000; i++) {
+            deque.addFirst(i);
+        }
+        assertEquals(5000050000L, deque.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(100000, deque.stream().count());
+        assertEquals(Integer.valueOf(100000), deque.stream().findFirst().get());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDequeInterface() {
+        Deque<Integer> deque = pow2;
+        assertNull(deque.pollFirst());
+        assertNull(deque.peekLast());
+        for (int i = 0; i < 6; i++) {
+            deque.offerFirst(i);
+            deque.offer(10 + i);
+        }
+        assertEquals("[5, 4, 3, 2, 1, 0, 10, 11, 12, 13, 14, 15]", deque.toString());
+        assertTrue(deque.contains(12));
+        assertFalse(deque.contains(6));
+        assertTrue(deque.removeFirstOccurrence(1));
+        assertTrue(deque.removeLastOccurrence(14));
+        assertFalse(deque.remove((Object) 99));
+        assertEquals(Arrays.asList(5, 4, 3, 2, 0, 10, 11, 12, 13, 15), new ArrayList<>(deque));
+        assertEquals(Integer.valueOf(15), Collections.max(deque));
+
+        Integer[] array = deque.toArray(new Integer[12]);
+        assertEquals(Integer.valueOf(15), array[9]);
+        assertNull(array[10]);
+        deque.push(7);
+        assertEquals(Integer.valueOf(7), deque.pop());
+        deque.clear();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.poll());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorRemove() {
+        for (int i = 0; i < 16; i++) {
+            pow2.addLast(i);
+        }
+        pow2.removeIf(i -> i % 3 == 0);
+        assertEquals(Arrays.asList(1, 2, 4, 5, 7, 8, 10, 11, 13, 14), new ArrayList<>(pow2));
+        Iterator<Integer> descending = pow2.descendingIterator();
+        descending.next();
+        descending.remove();
+        assertEquals(Integer.valueOf(13), descending.next());
+        assertEquals(Integer.valueOf(13), pow2.peekLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOfferAtMaxCapacity() {
+        ArrayDeque<Integer> bounded = new ArrayDeque<>(ArrayDeque.GrowthPolicy.fixedIncrement(1, 2));
+        assertTrue(bounded.offerLast(1));
+        assertTrue(bounded.offerFirst(2));
+        assertFalse(bounded.offerLast(3));
+        assertFalse(bounded.offer(3));
+        assertEquals(2, bounded.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testDrainToSelf() {
+        pow2.addLast(1);
+        pow2.drainTo(pow2, 1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGetAndSetAcrossWrap() {
+        for (int i = 0; i < 5; i++) {
+            pow2.addFirst(-i);
+            pow2.addLast(i);
+        }
+        assertEquals(Integer.valueOf(-4), pow2.get(0));
+        assertEquals(Integer.valueOf(0), pow2.get(4));
+        assertEquals(Integer.valueOf(4), pow2.get(9));
+        assertEquals(Integer.valueOf(-3), pow2.set(1, 30));
+        assertEquals(Integer.valueOf(30), pow2.get(1));
+        Object[] backing = pow2.getBackingArray();
+        assertEquals(30, backing[12]);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        pow2.addLast(1);
+        pow2.get(1);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBinarySearchAcrossWrap() {
+        for (int i = 10; i < 30; i += 2) {
+            pow2.addLast(i);
+        }
+        for (int i = 8; i > 0; i -= 2) {
+            pow2.addFirst(i);
+        }
+        // 2, 4, ..., 28 with 2..8 at the end of the backing array
+        assertEquals(0, pow2.binarySearch(2));
+        assertEquals(3, pow2.binarySearch(8));
+        assertEquals(4, pow2.binarySearch(10));
+        assertEquals(13, pow2.binarySearch(28));
+        assertEquals(-1, pow2.binarySearch(1));
+        assertEquals(-5, pow2.binarySearch(9));
+        assertEquals(-15, pow2.binarySearch(29));
+        assertEquals(3, pow2.binarySearch(8, Comparator.naturalOrder()));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPollAndPeekAtEveryFront() {
+        ArrayDeque<Integer> modulo = new ArrayDeque<>();
+        for (int i = 0; i < 2 * ArrayDeque.INITIAL_CAPACITY; i++) {
+            assertNull(modulo.peekFirst());
+            assertNull(modulo.peekLast());
+            assertNull(modulo.pollLast());
+            modulo.addLast(i);
+            modulo.addLast(i + 1);
+            assertEquals(Integer.valueOf(i + 1), modulo.peekLast());
+            assertEquals(Integer.valueOf(i), modulo.pollFirst());
+            assertEquals(Integer.valueOf(i + 1), modulo.pollLast());
+            assertNull(modulo.pollFirst());
+        }
+        modulo.trimToSize();
+        Object[] backing = modulo.getBackingArray();
+        assertEquals(1, backing.length);
+        assertNull(modulo.peekLast());
+        assertTrue(modulo.offerFirst(5));
+        assertEquals(Integer.valueOf(5), modulo.peekLast());
+    }
+}
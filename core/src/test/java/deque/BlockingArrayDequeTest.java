@@ -0,0 +1,122 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for BlockingArrayDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class BlockingArrayDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int THREAD_TIMEOUT = 5000;
+    private BlockingArrayDeque<Integer> deque;
+
+    @Before
+    public void setup() {
+        deque = new BlockingArrayDeque<>(3);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBoundedNonBlocking() {
+        assertTrue(deque.offerLast(1));
+        assertTrue(deque.offerFirst(0));
+        deque.addLast(2);
+        assertFalse(deque.offerFirst(-1));
+        assertEquals(0, deque.remainingCapacity());
+        assertEquals(Integer.valueOf(0), deque.getFirst());
+        assertEquals(Integer.valueOf(2), deque.getLast());
+        assertEquals(Integer.valueOf(2), deque.pollLast());
+        assertEquals(Integer.valueOf(0), deque.removeFirst());
+        assertEquals(Integer.valueOf(1), deque.pollFirst());
+        assertNull(deque.pollFirst());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testAddWhenFull() {
+        for (int i = 0; i < 4; i++) {
+            deque.addFirst(i);
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveWhenEmpty() {
+        deque.removeLast();
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testTimedOperationsTimeOut() throws InterruptedException {
+        assertNull(deque.pollFirst(10, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 3; i++) {
+            deque.putLast(i);
+        }
+        assertFalse(deque.offerLast(3, 10, TimeUnit.MILLISECONDS));
+        assertFalse(deque.offerFirst(3, 0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testPutBlocksUntilTake() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            deque.putLast(i);
+        }
+        Thread producer = new Thread(() -> {
+            try {
+                deque.putFirst(-1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        assertEquals(Integer.valueOf(2), deque.takeLast());
+        producer.join();
+        assertEquals(Integer.valueOf(-1), deque.takeFirst());
+        assertEquals(2, deque.size());
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testTakeBlocksUntilPut() throws InterruptedException {
+        AtomicInteger taken = new AtomicInteger();
+        Thread consumer = new Thread(() -> {
+            try {
+                taken.set(deque.takeFirst());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        deque.putLast(7);
+        consumer.join();
+        assertEquals(7, taken.get());
+
+        deque.putFirst(8);
+        assertEquals(Integer.valueOf(8), deque.pollLast(1, TimeUnit.SECONDS));
+    }
+
+    @Test(timeout = THREAD_TIMEOUT)
+    public void testInterruptWhileWaiting() throws InterruptedException {
+        AtomicInteger interrupted = new AtomicInteger();
+        Thread consumer = new Thread(() -> {
+            try {
+                deque.takeLast();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join();
+        assertEquals(1, interrupted.get());
+    }
+}
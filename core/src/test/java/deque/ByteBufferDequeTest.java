@@ -0,0 +1,204 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for ByteBufferDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class ByteBufferDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private ByteBufferDeque deque;
+    private LimitedChannel channel;
+
+    @Before
+    public void setup() {
+        deque = new ByteBufferDeque();
+        channel = new LimitedChannel();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWriteAllInOneCall() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            deque.addLast(bytes("m" + i));
+        }
+        assertEquals(20, deque.remaining());
+        assertEquals(20, deque.writeTo(channel));
+        assertEquals(1, channel.calls);
+        assertEquals("m0m1m2m3m4m5m6m7m8m9", channel.written());
+        assertEquals(0, deque.size());
+        assertEquals(0, deque.remaining());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPartialWriteKeepsHead() throws Exception {
+        deque.addLast(bytes("abc"));
+        deque.addLast(bytes("defg"));
+        deque.addLast(bytes("hi"));
+        channel.limit = 5;
+        assertEquals(5, deque.writeTo(channel));
+        assertEquals("abcde", channel.written());
+        assertEquals(2, deque.size());
+        assertEquals(4, deque.remaining());
+        assertEquals(2, deque.getFirst().remaining());
+        assertEquals(4, deque.writeTo(channel));
+        assertEquals("abcdefghi", channel.written());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWrappedContentsInTwoRuns() throws Exception {
+        // an emptied deque restarts at index 0, so leave one buffer behind
+        // at index 10 and queue 12 more, which wrap after the fifth
+        for (int i = 0; i < 11; i++) {
+            deque.addLast(bytes("x"));
+        }
+        channel.limit = 10;
+        deque.writeTo(channel);
+        channel.clear();
+        for (int i = 0; i < 12; i++) {
+            deque.addLast(bytes(Integer.toHexString(i)));
+        }
+        Object[] backingArray = deque.getBackingArray();
+        assertEquals(16, backingArray.length);
+        assertNull(backingArray[9]);
+        assertSame(deque.getFirst(), backingArray[10]);
+        channel.limit = Integer.MAX_VALUE;
+        assertEquals(13, deque.writeTo(channel));
+        assertEquals(2, channel.calls);
+        assertEquals("x0123456789ab", channel.written());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testStallInFirstRunSkipsSecond() throws Exception {
+        // an emptied deque restarts at index 0, so leave one buffer behind
+        // to keep front past the middle of the array
+        for (int i = 0; i < 12; i++) {
+            deque.addLast(bytes("x"));
+        }
+        channel.limit = 11;
+        deque.writeTo(channel);
+        channel.clear();
+        for (int i = 0; i < 8; i++) {
+            deque.addLast(bytes("y" + i));
+        }
+        channel.limit = 6;
+        assertEquals(6, deque.writeTo(channel));
+        assertEquals(1, channel.calls);
+        assertEquals("xy0y1y", channel.written());
+        channel.limit = Integer.MAX_VALUE;
+        assertEquals(11, deque.writeTo(channel));
+        assertEquals(3, channel.calls);
+        assertEquals("xy0y1y2y3y4y5y6y7", channel.written());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddFirstAndEmptyBuffers() throws Exception {
+        ByteBuffer empty = ByteBuffer.allocate(0);
+        deque.addLast(bytes("body"));
+        deque.addLast(empty);
+        deque.addFirst(bytes("head:"));
+        assertSame(empty, deque.getLast());
+        channel.limit = 0;
+        assertEquals(0, deque.writeTo(channel));
+        assertEquals(3, deque.size());
+        channel.limit = Integer.MAX_VALUE;
+        assertEquals(9, deque.writeTo(channel));
+        assertEquals("head:body", channel.written());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveFirstUpdatesRemaining() {
+        deque.addLast(bytes("abc"));
+        deque.addLast(bytes("de"));
+        assertEquals("abc", StandardCharsets.US_ASCII.decode(deque.removeFirst()).toString());
+        assertEquals(2, deque.remaining());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        deque.addLast(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        deque.removeFirst();
+    }
+
+    /**
+     * Returns a buffer holding the ASCII bytes of the text.
+     *
+     * @param text the text
+     * @return a buffer ready to be written
+     */
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * A channel that accepts at most limit bytes per write and counts its
+     * gathering writes.
+     */
+    private static final class LimitedChannel implements GatheringByteChannel {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private int limit = Integer.MAX_VALUE;
+        private int calls;
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            calls++;
+            long written = 0;
+            for (int i = offset; i < offset + length && written < limit; i++) {
+                while (srcs[i].hasRemaining() && written < limit) {
+                    out.write(srcs[i].get());
+                    written++;
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            return (int) write(new ByteBuffer[] {src}, 0, 1);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private String written() {
+            return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+        }
+
+        private void clear() {
+            out.reset();
+            calls = 0;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for ChunkedDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class ChunkedDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private ChunkedDeque<String> chunked;
+
+    @Before
+    public void setup() {
+        chunked = new ChunkedDeque<>(4);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAddAcrossChunks() {
+        for (int i = 0; i < 10; i++) {
+            chunked.addLast("b" + i);
+            chunked.addFirst("f" + i);
+        }
+        assertEquals(20, chunked.size());
+        assertEquals("f9", chunked.getFirst());
+        assertEquals("b9", chunked.getLast());
+        for (int i = 9; i >= 0; i--) {
+            assertEquals("f" + i, chunked.removeFirst());
+        }
+        for (int i = 9; i >= 0; i--) {
+            assertEquals("b" + i, chunked.removeLast());
+        }
+        assertEquals(0, chunked.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testQueueThroughManyChunks() {
+        for (int i = 0; i < 100; i++) {
+            chunked.addLast("a" + i);
+            if (i % 3 == 2) {
+                assertEquals("a" + (i / 3), chunked.removeFirst());
+            }
+        }
+        assertEquals(67, chunked.size());
+        assertEquals("a33", chunked.getFirst());
+        assertEquals("a99", chunked.getLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testEmptyAfterRemovingLastElement() {
+        chunked.addFirst("0a");
+        assertEquals("0a", chunked.removeLast());
+        chunked.addLast("1a");
+        assertEquals("1a", chunked.getFirst());
+        assertEquals("1a", chunked.removeFirst());
+        assertEquals(0, chunked.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        chunked.addLast(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        chunked.removeFirst();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testGetFromEmpty() {
+        chunked.getLast();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorsAcrossChunks() {
+        for (int i = 0; i < 7; i++) {
+            chunked.addFirst("f" + i);
+            chunked.addLast("l" + i);
+        }
+        StringBuilder ascending = new StringBuilder();
+        for (String data : chunked) {
+            ascending.append(data);
+        }
+        StringBuilder descending = new StringBuilder();
+        chunked.descendingIterator().forEachRemaining(data -> descending.insert(0, data));
+        assertEquals("f6f5f4f3f2f1f0l0l1l2l3l4l5l6", ascending.toString());
+        assertEquals(ascending.toString(), descending.toString());
+        assertEquals(14, chunked.stream().count());
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testIteratorFailsFast() {
+        chunked.addLast("a");
+        chunked.addLast("b");
+        Iterator<String> iterator = chunked.iterator();
+        iterator.next();
+        chunked.addFirst("c");
+        iterator.next();
+    }
+}
@@ -1,3 +1,5 @@
+package deque;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
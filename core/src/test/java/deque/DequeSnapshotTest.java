@@ -0,0 +1,120 @@
+package deque;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for DequeSnapshot.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class DequeSnapshotTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int STRESS_TIMEOUT = 20000;
+
+    @Test(timeout = TIMEOUT)
+    public void testRoundTripIntoRightSizedArray() throws IOException {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 0; i < 30; i++) {
+            deque.addFirst(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            deque.removeLast();
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DequeSnapshot.write(deque, DequeSnapshot.INTEGERS, new DataOutputStream(bytes), false);
+        assertEquals(8 + 20 * 4, bytes.size());
+
+        ArrayDeque<Integer> restored = DequeSnapshot.readArrayDeque(DequeSnapshot.INTEGERS,
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), false);
+        assertArrayEquals(deque.toArray(), restored.toArray());
+        Object[] backing = restored.getBackingArray();
+        assertEquals(20, backing.length);
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testLargeSnapshotIntoRightSizedArray() throws IOException {
+        int count = (1 << 20) + 5;
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 0; i < count; i++) {
+            deque.addLast(i);
+        }
+        for (boolean framed : new boolean[] {false, true}) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DequeSnapshot.write(deque, DequeSnapshot.INTEGERS, new DataOutputStream(bytes), framed);
+            ArrayDeque<Integer> restored = DequeSnapshot.readArrayDeque(DequeSnapshot.INTEGERS,
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), framed);
+            Object[] backing = restored.getBackingArray();
+            assertEquals(count, backing.length);
+            assertEquals(count, restored.size());
+            assertEquals(Integer.valueOf(0), restored.getFirst());
+            assertEquals(Integer.valueOf(count - 1), restored.getLast());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFramedSnapshotsBackToBack() throws IOException {
+        LinkedDeque<String> first = new LinkedDeque<>();
+        first.addLast("h\u00e9llo");
+        first.addLast("");
+        LinkedDeque<String> second = new LinkedDeque<>();
+        second.addLast("world");
+        // long enough to be read in several growing chunks
+        String large = String.join("", Collections.nCopies(50000, "long"));
+        second.addLast(large);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        DequeSnapshot.write(first, DequeSnapshot.STRINGS, out, true);
+        DequeSnapshot.write(second, DequeSnapshot.STRINGS, out, true);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        LinkedDeque<String> firstRestored = DequeSnapshot.readLinkedDeque(DequeSnapshot.STRINGS, in, true);
+        ArrayDeque<String> secondRestored = DequeSnapshot.readArrayDeque(DequeSnapshot.STRINGS, in, true);
+        assertEquals("[h\u00e9llo, ]", firstRestored.toString());
+        assertEquals("world", secondRestored.removeFirst());
+        assertEquals(large, secondRestored.removeFirst());
+        assertEquals("", firstRestored.getTail().getData());
+        assertEquals(0, in.available());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testRejectsOtherData() throws IOException {
+        byte[] bytes = {0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 7};
+        DequeSnapshot.readLinkedDeque(DequeSnapshot.INTEGERS,
+            new DataInputStream(new ByteArrayInputStream(bytes)), false);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testRejectsHugeFrameLength() throws IOException {
+        byte[] bytes = {0x7f, -1, -1, -1, 0x44, 0x45, 0x51, 0x53, 0, 0, 0, 0};
+        DequeSnapshot.readArrayDeque(DequeSnapshot.INTEGERS,
+            new DataInputStream(new ByteArrayInputStream(bytes)), true);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testRejectsCountBeyondFrame() throws IOException {
+        byte[] bytes = {0, 0, 0, 12, 0x44, 0x45, 0x51, 0x53, 0x7f, -1, -1, -1, 0, 0, 0, 1};
+        DequeSnapshot.readArrayDeque(DequeSnapshot.INTEGERS,
+            new DataInputStream(new ByteArrayInputStream(bytes)), true);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IOException.class)
+    public void testTruncatedHugeCountAndStringFailWithoutAllocating() throws IOException {
+        // an unframed count and a string length near 2^31, with only a few
+        // bytes behind them
+        byte[] bytes = {0x44, 0x45, 0x51, 0x53, 0x7f, -1, -1, -1, 0x7f, -1, -1, -1, 'a', 'b'};
+        DequeSnapshot.readArrayDeque(DequeSnapshot.STRINGS,
+            new DataInputStream(new ByteArrayInputStream(bytes)), false);
+    }
+}
@@ -0,0 +1,90 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for DequeStats.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class DequeStatsTest {
+
+    private static final int TIMEOUT = 2000;
+    private ArrayDeque<Integer> deque;
+
+    @Before
+    public void setup() {
+        deque = new ArrayDeque<>(true);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCounters() {
+        assertNull(deque.getStats());
+        deque.addLast(0);
+        DequeStats stats = deque.enableStats();
+        assertSame(stats, deque.enableStats());
+        for (int i = 1; i <= 20; i++) {
+            deque.addLast(i);
+        }
+        deque.addFirst(-1);
+        deque.addAllFirst(new Integer[] {-3, -2});
+        deque.removeLast();
+        deque.removeFirst();
+        deque.drainTo(new ArrayList<>(), 4);
+
+        DequeStats.Snapshot snapshot = stats.snapshot();
+        assertEquals(3, snapshot.getAddFirstCount());
+        assertEquals(20, snapshot.getAddLastCount());
+        assertEquals(5, snapshot.getRemoveFirstCount());
+        assertEquals(1, snapshot.getRemoveLastCount());
+        assertEquals(24, snapshot.getHighWaterMark());
+        assertEquals(1, snapshot.getResizeCount());
+        assertEquals(16, snapshot.getCopiedElements());
+        assertEquals(18, snapshot.getSize());
+        assertEquals(32, snapshot.getCapacity());
+        assertEquals(14, snapshot.getWastedCapacity());
+
+        deque.drainTo(new ArrayList<>(), 10);
+        deque.trimToSize();
+        assertEquals(15, stats.getRemoveFirstCount());
+        assertEquals(2, stats.getResizeCount());
+        assertEquals(24, stats.getCopiedElements());
+        stats.reset();
+        assertEquals(0, stats.getAddLastCount());
+        assertEquals(8, stats.getHighWaterMark());
+
+        deque.disableStats();
+        deque.addLast(1);
+        assertNull(deque.getStats());
+        assertEquals(0, stats.getAddLastCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testJmx() throws JMException {
+        DequeStats stats = deque.enableStats();
+        ObjectName name = stats.register("test deque");
+        try {
+            assertEquals("deque", name.getDomain());
+            deque.addAllLast(Arrays.asList(1, 2, 3));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(3L, server.getAttribute(name, "AddLastCount"));
+            assertEquals(13, server.getAttribute(name, "WastedCapacity"));
+        } finally {
+            DequeStats.unregister("test deque");
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package deque;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -0,0 +1,201 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the LinkedDeque features that go beyond the basic deque
+ * operations covered by DequeStudentTest.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class LinkedDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private LinkedDeque<String> pooled;
+
+    @Before
+    public void setup() {
+        pooled = new LinkedDeque<>(2);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPoolReusesClearedNodes() {
+        pooled.addLast("0a");
+        pooled.addLast("1a");
+        LinkedNode<String> first = pooled.getHead();
+        LinkedNode<String> second = pooled.getTail();
+
+        assertEquals("0a", pooled.removeFirst());
+        assertNull(first.getData());
+        assertNull(first.getPrevious());
+        assertEquals("1a", pooled.removeLast());
+        assertNull(second.getData());
+
+        pooled.addFirst("2a"); // reuses the most recently pooled node
+        assertSame(second, pooled.getHead());
+        assertNull(second.getNext());
+        pooled.addLast("3a");
+        assertSame(first, pooled.getTail());
+        assertSame(second, first.getPrevious());
+        assertEquals("2a", pooled.getFirst());
+        assertEquals("3a", pooled.getLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPoolIsBounded() {
+        for (int i = 0; i < 3; i++) {
+            pooled.addLast("a" + i);
+        }
+        LinkedNode<String> dropped = pooled.getTail();
+        for (int i = 0; i < 3; i++) {
+            pooled.removeFirst();
+        }
+        // the third node did not fit in the pool and was left for the GC
+        assertNull(dropped.getNext());
+        for (int i = 0; i < 3; i++) {
+            pooled.addLast("b" + i);
+        }
+        assertNotSame(dropped, pooled.getTail());
+        assertEquals(3, pooled.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNegativePoolCapacity() {
+        new LinkedDeque<String>(-1);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testDequeOfferRejectsNullWithIllegalArgument() {
+        // a deliberate deviation from java.util.Deque, which specifies NPE
+        Deque<String> deque = new LinkedDeque<>();
+        deque.offer(null);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIterators() {
+        for (int i = 0; i < 5; i++) {
+            pooled.addLast("" + i);
+        }
+        StringBuilder ascending = new StringBuilder();
+        for (String data : pooled) {
+            ascending.append(data);
+        }
+        StringBuilder descending = new StringBuilder();
+        pooled.descendingIterator().forEachRemaining(descending::append);
+        assertEquals("01234", ascending.toString());
+        assertEquals("43210", descending.toString());
+    }
+
+    @Test(timeout = TIMEOUT, expected = ConcurrentModificationException.class)
+    public void testIteratorFailsFast() {
+        pooled.addLast("a");
+        pooled.addLast("b");
+        Iterator<String> iterator = pooled.iterator();
+        iterator.next();
+        pooled.removeLast();
+        pooled.addLast("c");
+        iterator.next();
+    }
+
+    @Test(timeout = TIMEOUT * 10)
+    public void testSpliteratorBatches() {
+        LinkedDeque<Integer> deque = new LinkedDeque<>();
+        for (int i = 0; i < 3000; i++) {
+            deque.addLast(i);
+        }
+        Spliterator<Integer> rest = deque.spliterator();
+        Spliterator<Integer> first = rest.trySplit();
+        Spliterator<Integer> second = rest.trySplit();
+        assertEquals(1024, first.estimateSize());
+        assertEquals(1976, second.estimateSize());
+        assertEquals(0, rest.estimateSize());
+        int[] next = new int[1];
+        first.forEachRemaining(i -> assertEquals(next[0]++, (int) i));
+        second.forEachRemaining(i -> assertEquals(next[0]++, (int) i));
+        assertEquals(3000, next[0]);
+
+        assertEquals(4498500L, deque.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDequeInterface() {
+        Deque<String> deque = pooled;
+        assertNull(deque.peek());
+        deque.offerLast("b");
+        deque.offerFirst("a");
+        deque.add("c");
+        deque.push("z");
+        assertEquals("[z, a, b, c]", deque.toString());
+        assertTrue(deque.contains("b"));
+        assertTrue(deque.remove("b"));
+        assertFalse(deque.remove("b"));
+        assertEquals("z", deque.pop());
+        assertEquals("c", deque.pollLast());
+        assertArrayEquals(new Object[] {"a"}, deque.toArray());
+        deque.clear();
+        assertNull(pooled.getHead());
+        assertNull(deque.pollFirst());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorRemove() {
+        for (int i = 0; i < 6; i++) {
+            pooled.addLast("" + i);
+        }
+        pooled.removeIf(data -> data.equals("0") || data.equals("3") || data.equals("5"));
+        assertEquals("[1, 2, 4]", pooled.toString());
+        assertEquals("1", pooled.getHead().getData());
+        assertEquals("4", pooled.getTail().getData());
+        assertEquals("2", pooled.getTail().getPrevious().getData());
+        assertTrue(pooled.removeLastOccurrence("1"));
+        assertEquals("2", pooled.getHead().getData());
+        assertNull(pooled.getHead().getPrevious());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIndexedAccess() {
+        for (int i = 0; i < 10; i++) {
+            pooled.addLast("" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals("" + i, pooled.get(i));
+        }
+        pooled.insert(3, "a");
+        pooled.insert(4, "b");
+        pooled.insert(0, "c");
+        pooled.insert(13, "d");
+        assertEquals("[c, 0, 1, 2, a, b, 3, 4, 5, 6, 7, 8, 9, d]", pooled.toString());
+        assertEquals("b", pooled.remove(5));
+        assertEquals("a", pooled.remove(4));
+        assertEquals("d", pooled.remove(11));
+        assertEquals("c", pooled.remove(0));
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", pooled.toString());
+        assertEquals("8", pooled.get(8));
+        pooled.removeLast();
+        pooled.addFirst("e");
+        assertEquals("7", pooled.get(8));
+        assertEquals("e", pooled.getHead().getData());
+        assertEquals("8", pooled.getTail().getData());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IndexOutOfBoundsException.class)
+    public void testInsertOutOfBounds() {
+        pooled.addLast("a");
+        pooled.insert(2, "b");
+    }
+}
@@ -0,0 +1,187 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for LockFreeLinkedDeque, including multi-threaded stress tests that
+ * check that every element added is removed exactly once.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class LockFreeLinkedDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int STRESS_TIMEOUT = 20000;
+    private static final int STEADY_OPERATIONS = 2000000;
+    private LockFreeLinkedDeque<Integer> deque;
+
+    @Before
+    public void setup() {
+        deque = new LockFreeLinkedDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSingleThreaded() {
+        deque.addFirst(1);
+        deque.addFirst(0);
+        deque.addLast(2);
+        deque.addLast(3);
+        assertEquals(4, deque.size());
+        assertEquals(Integer.valueOf(0), deque.getFirst());
+        assertEquals(Integer.valueOf(3), deque.getLast());
+        assertEquals(Integer.valueOf(3), deque.removeLast());
+        assertEquals(Integer.valueOf(0), deque.removeFirst());
+        assertEquals(Integer.valueOf(1), deque.removeFirst());
+        assertEquals(Integer.valueOf(2), deque.removeLast());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        deque.addFirst(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        deque.removeLast();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testGetFromEmpty() {
+        deque.getFirst();
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testConcurrentAddAndRemoveEachElementOnce() throws InterruptedException {
+        int threads = 8;
+        int perThread = 50000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(threads * perThread);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perThread; i++) {
+                    int value = id * perThread + i;
+                    if ((i & 1) == 0) {
+                        deque.addFirst(value);
+                    } else {
+                        deque.addLast(value);
+                    }
+                    Integer removed = null;
+                    while (removed == null) {
+                        try {
+                            removed = ((i + id) & 2) == 0 ? deque.removeFirst() : deque.removeLast();
+                        } catch (NoSuchElementException e) {
+                            // another thread took ours, it will leave one behind for us
+                        }
+                    }
+                    seen.incrementAndGet(removed);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(0, deque.size());
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals("element " + i, 1, seen.get(i));
+        }
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testConcurrentProducersKeepPerEndOrder() throws InterruptedException {
+        int perThread = 100000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread front = new Thread(() -> {
+            awaitQuietly(start);
+            for (int i = 0; i < perThread; i++) {
+                deque.addFirst(-i - 1);
+            }
+        });
+        Thread back = new Thread(() -> {
+            awaitQuietly(start);
+            for (int i = 0; i < perThread; i++) {
+                deque.addLast(i);
+            }
+        });
+        front.start();
+        back.start();
+        start.countDown();
+        front.join();
+        back.join();
+
+        assertEquals(2 * perThread, deque.size());
+        // each producer's elements come back in the order they were pushed
+        for (int i = perThread; i > 0; i--) {
+            assertEquals(Integer.valueOf(-i), deque.removeFirst());
+        }
+        for (int i = perThread - 1; i >= 0; i--) {
+            assertEquals(Integer.valueOf(i), deque.removeLast());
+        }
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testSteadyStateInBoundedHeap() throws IOException, InterruptedException {
+        // Each leaked node takes at least 24 bytes, so keeping every removed
+        // node reachable overflows a 16 MB heap well before the end of main.
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-Xmx16m", "-cp", System.getProperty("java.class.path"),
+            LockFreeLinkedDequeTest.class.getName()).inheritIO().start();
+        assertEquals(0, process.waitFor());
+    }
+
+    /**
+     * Runs queue and stack workloads on a deque holding two elements, for
+     * testSteadyStateInBoundedHeap to run in a JVM with a small heap.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        LockFreeLinkedDeque<Integer> deque = new LockFreeLinkedDeque<>();
+        deque.addLast(-1);
+        deque.addLast(-2);
+        for (int i = 0; i < STEADY_OPERATIONS; i++) {
+            deque.addLast(i & 127);
+            deque.removeFirst();
+        }
+        for (int i = 0; i < STEADY_OPERATIONS; i++) {
+            deque.addFirst(i & 127);
+            deque.removeLast();
+        }
+        for (int i = 0; i < STEADY_OPERATIONS; i++) {
+            deque.addLast(i & 127);
+            deque.removeLast();
+        }
+        for (int i = 0; i < STEADY_OPERATIONS; i++) {
+            deque.addFirst(i & 127);
+            deque.removeFirst();
+        }
+    }
+
+    /**
+     * Waits on the latch, restoring the interrupt flag if interrupted.
+     *
+     * @param latch the latch to wait on
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package deque;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for MappedArrayDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class MappedArrayDequeTest {
+
+    private static final int TIMEOUT = 2000;
+
+    private static final OffHeapArrayDeque.RecordCodec<Long> LONGS =
+        new OffHeapArrayDeque.RecordCodec<Long>() {
+            @Override
+            public int recordSize() {
+                return 8;
+            }
+
+            @Override
+            public void encode(Long record, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, record);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+
+    private Path file;
+
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("deque", ".dat");
+        Files.delete(file);
+    }
+
+    @After
+    public void teardown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReopen() throws IOException {
+        try (MappedArrayDeque<Long> deque = new MappedArrayDeque<>(file, LONGS, 8, 0)) {
+            for (long i = 0; i < 6; i++) {
+                deque.addLast(i);
+            }
+            assertEquals(0L, (long) deque.removeFirst());
+            assertEquals(1L, (long) deque.removeFirst());
+            deque.addLast(6L);
+            deque.addLast(7L);
+            deque.addLast(8L);
+            deque.addFirst(1L);
+        }
+        try (MappedArrayDeque<Long> deque = new MappedArrayDeque<>(file, LONGS, 8, 1)) {
+            assertEquals(8, deque.size());
+            for (long i = 1; i <= 8; i++) {
+                assertEquals(i, (long) deque.removeFirst());
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRecoverFromTornHeader() throws IOException {
+        try (MappedArrayDeque<Long> deque = new MappedArrayDeque<>(file, LONGS, 4, 1)) {
+            deque.addLast(10L);
+            deque.addLast(20L);
+            deque.addLast(30L);
+        }
+        // Three syncs after the initial one leave sequence 4 newest, in the
+        // first slot; tear its checksum so sequence 3 is recovered.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1}), 16 + 16);
+        }
+        try (MappedArrayDeque<Long> deque = new MappedArrayDeque<>(file, LONGS, 4, 0)) {
+            assertEquals(2, deque.size());
+            assertEquals(10L, (long) deque.getFirst());
+            assertEquals(20L, (long) deque.getLast());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRecoverLastSync() throws IOException {
+        try (MappedArrayDeque<Long> deque = new MappedArrayDeque<>(file, LONGS, 8, 0)) {
+            deque.addLast(1L);
+            deque.sync();
+            deque.addLast(2L);
+            deque.addFirst(0L);
+            // A second mapping sees what recovery after a crash would.
+            try (MappedArrayDeque<Long> crashed = new MappedArrayDeque<>(file, LONGS, 8, 0)) {
+                assertEquals(1, crashed.size());
+                assertEquals(1L, (long) crashed.getFirst());
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testReusingSyncedSlotSyncsFirst() throws IOException {
+        try (MappedArrayDeque<Long> deque = new MappedArrayDeque<>(file, LONGS, 2, 0)) {
+            deque.addLast(1L);
+            deque.addLast(2L);
+            deque.sync();
+            assertEquals(1L, (long) deque.removeFirst());
+            // Slot 0 still holds 1 in the synced state, so overwriting it
+            // must sync the removal first.
+            deque.addLast(3L);
+            try (MappedArrayDeque<Long> crashed = new MappedArrayDeque<>(file, LONGS, 2, 0)) {
+                assertEquals(1, crashed.size());
+                assertEquals(2L, (long) crashed.getFirst());
+            }
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalStateException.class)
+    public void testFull() throws IOException {
+        try (MappedArrayDeque<Long> deque = new MappedArrayDeque<>(file, LONGS, 2, 0)) {
+            deque.addFirst(1L);
+            deque.addFirst(2L);
+            deque.addFirst(3L);
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testCapacityMismatch() throws IOException {
+        new MappedArrayDeque<>(file, LONGS, 4, 0).close();
+        new MappedArrayDeque<>(file, LONGS, 8, 0).close();
+    }
+}
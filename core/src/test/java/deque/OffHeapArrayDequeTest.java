@@ -0,0 +1,194 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for OffHeapArrayDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class OffHeapArrayDequeTest {
+
+    private static final int TIMEOUT = 200;
+
+    /**
+     * A 12 byte record of a long timestamp and an int price.
+     */
+    private static final OffHeapArrayDeque.RecordCodec<long[]> TICK =
+        new OffHeapArrayDeque.RecordCodec<long[]>() {
+            @Override
+            public int recordSize() {
+                return 12;
+            }
+
+            @Override
+            public void encode(long[] record, ByteBuffer buffer, int offset) {
+                buffer.putLong(offset, record[0]);
+                buffer.putInt(offset + 8, (int) record[1]);
+            }
+
+            @Override
+            public long[] decode(ByteBuffer buffer, int offset) {
+                return new long[] {buffer.getLong(offset), buffer.getInt(offset + 8)};
+            }
+        };
+
+    private OffHeapArrayDeque<long[]> deque;
+
+    @Before
+    public void setup() {
+        deque = new OffHeapArrayDeque<>(TICK);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWrapAroundAndResize() {
+        for (int i = 0; i < 20; i++) {
+            deque.addFirst(new long[] {-i, i});
+            deque.addLast(new long[] {i, -i});
+        }
+        assertEquals(40, deque.size());
+        assertEquals(64 * 12, deque.getBuffer().capacity());
+        for (int i = 19; i >= 0; i--) {
+            long[] record = deque.removeFirst();
+            assertEquals(-i, record[0]);
+            assertEquals(i, record[1]);
+        }
+        for (int i = 19; i >= 0; i--) {
+            long[] record = deque.removeLast();
+            assertEquals(i, record[0]);
+            assertEquals(-i, record[1]);
+        }
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testInPlaceFieldAccess() {
+        for (int i = 0; i < 100; i++) {
+            int offset = deque.claimLast();
+            ByteBuffer buffer = deque.getBuffer();
+            buffer.putLong(offset, 1000L + i);
+            buffer.putInt(offset + 8, i);
+            if (i % 3 == 0) {
+                assertEquals(1000L + i / 3, deque.getBuffer().getLong(deque.firstOffset()));
+                deque.dropFirst();
+            }
+        }
+        assertEquals(66, deque.size());
+        ByteBuffer buffer = deque.getBuffer();
+        assertEquals(99, buffer.getInt(deque.lastOffset() + 8));
+        buffer.putInt(deque.lastOffset() + 8, 7);
+        assertEquals(7, deque.getLast()[1]);
+
+        int offset = deque.claimFirst();
+        deque.getBuffer().putLong(offset, -1L);
+        deque.getBuffer().putInt(offset + 8, -1);
+        assertEquals(-1L, deque.getFirst()[0]);
+        deque.dropLast();
+        assertEquals(98, deque.getLast()[1]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testFailedEncodeLeavesDequeUnchanged() {
+        for (int i = 0; i < OffHeapArrayDeque.INITIAL_CAPACITY; i++) {
+            deque.addLast(new long[] {i, i});
+        }
+        try {
+            deque.addFirst(new long[0]);
+            fail("encode should have thrown");
+        } catch (ArrayIndexOutOfBoundsException e) {
+            assertEquals(OffHeapArrayDeque.INITIAL_CAPACITY, deque.size());
+        }
+        try {
+            deque.addLast(new long[0]);
+            fail("encode should have thrown");
+        } catch (ArrayIndexOutOfBoundsException e) {
+            assertEquals(OffHeapArrayDeque.INITIAL_CAPACITY, deque.size());
+        }
+        assertEquals(0L, deque.getFirst()[0]);
+        assertEquals(OffHeapArrayDeque.INITIAL_CAPACITY - 1, deque.getLast()[0]);
+        deque.addFirst(new long[] {-1, -1});
+        assertEquals(-1L, deque.removeFirst()[0]);
+        for (int i = 0; i < OffHeapArrayDeque.INITIAL_CAPACITY; i++) {
+            assertEquals(i, deque.removeFirst()[1]);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSharedBufferSurvivesGrowth() {
+        deque.addLast(new long[] {42, 7});
+        ByteBuffer old = deque.getBuffer();
+        for (int i = 0; i < 4 * OffHeapArrayDeque.INITIAL_CAPACITY; i++) {
+            deque.addLast(new long[] {i, i});
+        }
+        assertEquals(42L, old.getLong(0));
+        assertEquals(42L, deque.getFirst()[0]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSliceSurvivesGrowth() {
+        OffHeapArrayDeque<ByteBuffer> slices = new OffHeapArrayDeque<>(
+            new OffHeapArrayDeque.RecordCodec<ByteBuffer>() {
+                @Override
+                public int recordSize() {
+                    return 8;
+                }
+
+                @Override
+                public void encode(ByteBuffer record, ByteBuffer buffer, int offset) {
+                    buffer.putLong(offset, record.getLong(0));
+                }
+
+                @Override
+                public ByteBuffer decode(ByteBuffer buffer, int offset) {
+                    return buffer.slice(offset, 8).order(buffer.order());
+                }
+            });
+        slices.addLast(ByteBuffer.allocate(8).putLong(0, 42L));
+        ByteBuffer view = slices.getFirst();
+        for (int i = 0; i < 64 * OffHeapArrayDeque.INITIAL_CAPACITY; i++) {
+            slices.addLast(ByteBuffer.allocate(8).putLong(0, i));
+        }
+        System.gc();
+        assertEquals(42L, view.getLong(0));
+        assertEquals(42L, slices.getFirst().getLong(0));
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testRecordTooLarge() {
+        new OffHeapArrayDeque<>(new OffHeapArrayDeque.RecordCodec<long[]>() {
+            @Override
+            public int recordSize() {
+                return Integer.MAX_VALUE / OffHeapArrayDeque.INITIAL_CAPACITY + 1;
+            }
+
+            @Override
+            public void encode(long[] record, ByteBuffer buffer, int offset) {
+            }
+
+            @Override
+            public long[] decode(ByteBuffer buffer, int offset) {
+                return null;
+            }
+        });
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        deque.addLast(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testDropEmpty() {
+        deque.addFirst(new long[] {1, 1});
+        deque.dropLast();
+        deque.dropFirst();
+    }
+}
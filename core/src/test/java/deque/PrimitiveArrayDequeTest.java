@@ -0,0 +1,84 @@
+package deque;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for IntArrayDeque, LongArrayDeque and DoubleArrayDeque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class PrimitiveArrayDequeTest {
+
+    private static final int TIMEOUT = 200;
+
+    @Test(timeout = TIMEOUT)
+    public void testIntWrapAroundAndResize() {
+        IntArrayDeque deque = new IntArrayDeque();
+        for (int i = 0; i < 10; i++) {
+            deque.addFirst(-i);
+            deque.addLast(i);
+        }
+        assertEquals(20, deque.size());
+        assertEquals(32, deque.getBackingArray().length);
+        assertEquals(-9, deque.getFirst());
+        assertEquals(9, deque.getLast());
+
+        int[] expected = new int[20];
+        for (int i = 0; i < 10; i++) {
+            expected[i] = i - 9;
+            expected[10 + i] = i;
+        }
+        assertArrayEquals(expected, deque.toArray());
+
+        PrimitiveIterator.OfInt iterator = deque.iterator();
+        for (int value : expected) {
+            assertEquals(value, iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+
+        assertEquals(-9, deque.removeFirst());
+        assertEquals(9, deque.removeLast());
+        assertEquals(18, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLongQueue() {
+        LongArrayDeque deque = new LongArrayDeque();
+        for (long i = 0; i < 40; i++) {
+            deque.addLast(i << 32);
+            if (i % 2 == 1) {
+                assertEquals((i / 2) << 32, deque.removeFirst());
+            }
+        }
+        assertEquals(20, deque.size());
+        long[] sum = new long[1];
+        deque.forEach(value -> sum[0] += value >> 32);
+        assertEquals(590, sum[0]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDoubleStack() {
+        DoubleArrayDeque deque = new DoubleArrayDeque();
+        for (int i = 0; i < 20; i++) {
+            deque.addFirst(i * 0.5);
+        }
+        for (int i = 19; i >= 0; i--) {
+            assertEquals(i * 0.5, deque.getFirst(), 0);
+            assertEquals(i * 0.5, deque.removeFirst(), 0);
+        }
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        new LongArrayDeque().removeLast();
+    }
+}
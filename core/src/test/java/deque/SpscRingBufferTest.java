@@ -0,0 +1,150 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for SpscRingBuffer.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class SpscRingBufferTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int STRESS_TIMEOUT = 20000;
+    private SpscRingBuffer<Integer> buffer;
+
+    @Before
+    public void setup() {
+        buffer = new SpscRingBuffer<>(6);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOfferPollWrapAround() {
+        assertEquals(8, buffer.capacity());
+        assertNull(buffer.poll());
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 8; i++) {
+                assertTrue(buffer.offer(round * 8 + i));
+            }
+            assertFalse(buffer.offer(-1));
+            assertEquals(8, buffer.size());
+            assertEquals(Integer.valueOf(round * 8), buffer.peek());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(Integer.valueOf(round * 8 + i), buffer.poll());
+            }
+            for (int i = 5; i < 8; i++) {
+                assertEquals(Integer.valueOf(round * 8 + i), buffer.poll());
+            }
+            assertNull(buffer.poll());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBatches() {
+        buffer.offer(-2);
+        buffer.offer(-1);
+        buffer.poll();
+        Integer[] batch = {0, 1, 2, 3, 4, 5, 6, 7, 8};
+        assertEquals(7, buffer.offerBatch(batch, 0, batch.length));
+        assertEquals(0, buffer.offerBatch(batch, 7, 2));
+
+        Integer[] out = new Integer[4];
+        assertEquals(4, buffer.pollBatch(out, 0, 4));
+        assertArrayEquals(new Integer[] {-1, 0, 1, 2}, out);
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, buffer.drain(drained::add, 10));
+        assertEquals(Arrays.asList(3, 4, 5, 6), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDrainKeepsRestWhenActionThrows() {
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        try {
+            buffer.drain(data -> {
+                drained.add(data);
+                if (data == 2) {
+                    throw new IllegalStateException("stop");
+                }
+            }, 10);
+            fail("the action's exception should propagate");
+        } catch (IllegalStateException e) {
+            assertEquals(Arrays.asList(0, 1, 2), drained);
+        }
+        assertEquals(2, buffer.size());
+        assertEquals(Integer.valueOf(3), buffer.poll());
+        assertEquals(Integer.valueOf(4), buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testOfferNull() {
+        buffer.offer(null);
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testProducerConsumerKeepOrder() throws InterruptedException {
+        SpscRingBuffer<Integer> shared = new SpscRingBuffer<>(64);
+        int count = 200000;
+        Thread producer = new Thread(() -> {
+            Integer[] batch = new Integer[5];
+            int next = 0;
+            while (next < count) {
+                int added;
+                if (next % 3 == 0) {
+                    int n = Math.min(batch.length, count - next);
+                    for (int i = 0; i < n; i++) {
+                        batch[i] = next + i;
+                    }
+                    added = shared.offerBatch(batch, 0, n);
+                } else {
+                    added = shared.offer(next) ? 1 : 0;
+                }
+                next += added;
+                if (added == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        Integer[] out = new Integer[3];
+        int expected = 0;
+        while (expected < count) {
+            int removed = 0;
+            if ((expected & 1) == 0) {
+                Integer value = shared.poll();
+                if (value != null) {
+                    assertEquals(expected++, value.intValue());
+                    removed = 1;
+                }
+            } else {
+                removed = shared.pollBatch(out, 0, out.length);
+                for (int i = 0; i < removed; i++) {
+                    assertEquals(expected++, out[i].intValue());
+                }
+            }
+            if (removed == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertNull(shared.poll());
+    }
+}
@@ -0,0 +1,126 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for StampedDeque, including a stress test with readers peeking while
+ * a writer keeps changing both ends of the deque.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class StampedDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int STRESS_TIMEOUT = 20000;
+    private StampedDeque<Integer> array;
+    private StampedDeque<Integer> linked;
+
+    @Before
+    public void setup() {
+        array = new StampedDeque<>(new ArrayDeque<>(true));
+        linked = new StampedDeque<>(new LinkedDeque<>(16));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDelegates() {
+        for (StampedDeque<Integer> deque : Arrays.asList(array, linked)) {
+            assertTrue(deque.isEmpty());
+            assertNull(deque.peekFirst());
+            assertNull(deque.peekLast());
+            deque.addLast(1);
+            deque.addLast(2);
+            deque.addFirst(0);
+            assertEquals(3, deque.size());
+            assertEquals(Integer.valueOf(0), deque.getFirst());
+            assertEquals(Integer.valueOf(2), deque.getLast());
+            assertTrue(deque.contains(1));
+            assertEquals(Integer.valueOf(2), deque.removeLast());
+            assertEquals(Integer.valueOf(0), deque.pollFirst());
+            assertEquals(Integer.valueOf(1), deque.pollLast());
+            assertNull(deque.pollFirst());
+            deque.addLast(3);
+            deque.clear();
+            assertFalse(deque.contains(3));
+            assertEquals(0, deque.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testGetFromEmpty() {
+        array.getFirst();
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        linked.removeLast();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        linked.addFirst(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testWrapNull() {
+        new StampedDeque<>((ArrayDeque<Integer>) null);
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testReadersSeeConsistentEnds() throws InterruptedException {
+        ArrayDeque<Integer> shrinking = new ArrayDeque<>(true);
+        shrinking.setShrinkOnUnderflow(true);
+        for (StampedDeque<Integer> deque : Arrays.asList(new StampedDeque<>(shrinking), linked)) {
+            // the writer keeps first < last at every write lock release, and
+            // grows and shrinks the deque so readers race resizes and node
+            // reuse
+            deque.addLast(0);
+            deque.addLast(1);
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicReference<String> failure = new AtomicReference<>();
+            Thread[] readers = new Thread[2];
+            for (int r = 0; r < readers.length; r++) {
+                readers[r] = new Thread(() -> {
+                    while (!done.get()) {
+                        Integer first = deque.peekFirst();
+                        Integer last = deque.getLast();
+                        int size = deque.size();
+                        if (first == null || size < 2) {
+                            failure.set("saw a deque of size " + size + " starting with " + first);
+                        } else if (last < 1) {
+                            failure.set("saw a last element of " + last);
+                        }
+                        Thread.yield();
+                    }
+                });
+                readers[r].start();
+            }
+            int next = 2;
+            for (int round = 0; round < 200; round++) {
+                for (int i = 0; i < 100; i++) {
+                    deque.addLast(next++);
+                }
+                for (int i = 0; i < 100; i++) {
+                    deque.removeFirst();
+                }
+            }
+            done.set(true);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+            assertNull(failure.get());
+            assertEquals(2, deque.size());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for StripedDeque, including a stress test with several producers and
+ * consumers that checks every element is taken exactly once.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class StripedDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int STRESS_TIMEOUT = 20000;
+    private StripedDeque<Integer> deque;
+
+    @Before
+    public void setup() {
+        deque = new StripedDeque<>(4, false);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLaneCountRoundsUp() {
+        assertEquals(4, deque.getLaneCount());
+        assertEquals(8, new StripedDeque<Integer>(5, true).getLaneCount());
+        assertEquals(1, new StripedDeque<Integer>(1, false).getLaneCount());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSingleThreadKeepsOrder() {
+        for (int i = 0; i < 50; i++) {
+            deque.addLast(i);
+        }
+        deque.addFirst(-1);
+        assertEquals(51, deque.size());
+        assertEquals(Integer.valueOf(-1), deque.removeFirst());
+        assertEquals(Integer.valueOf(49), deque.removeLast());
+        for (int i = 0; i < 49; i++) {
+            assertEquals(Integer.valueOf(i), deque.pollFirst());
+        }
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertEquals(0, deque.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPollTakesFromOtherLanes() throws InterruptedException {
+        // another thread's adds most likely land in another lane, and a poll
+        // must find them wherever they are
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                deque.addLast(i);
+            }
+        });
+        producer.start();
+        producer.join();
+        assertEquals(100, deque.size());
+        int sum = 0;
+        for (int i = 0; i < 100; i++) {
+            sum += deque.removeFirst();
+        }
+        assertEquals(4950, sum);
+        assertNull(deque.pollFirst());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        deque.removeLast();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        deque.addFirst(null);
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testNoLanes() {
+        new StripedDeque<Integer>(0, false);
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testEachElementTakenOnce() throws InterruptedException {
+        StripedDeque<Integer> balanced = new StripedDeque<>(4, true);
+        int perProducer = 50000;
+        int producers = 3;
+        AtomicIntegerArray seen = new AtomicIntegerArray(perProducer * producers);
+        AtomicInteger taken = new AtomicInteger();
+        Thread[] threads = new Thread[producers * 2];
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    if ((i & 1) == 0) {
+                        balanced.addLast(base + i);
+                    } else {
+                        balanced.addFirst(base + i);
+                    }
+                }
+            });
+        }
+        for (int c = producers; c < threads.length; c++) {
+            boolean first = (c & 1) == 0;
+            threads[c] = new Thread(() -> {
+                while (taken.get() < seen.length()) {
+                    Integer data = first ? balanced.pollFirst() : balanced.pollLast();
+                    if (data == null) {
+                        Thread.yield();
+                    } else {
+                        seen.incrementAndGet(data);
+                        taken.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals("element " + i, 1, seen.get(i));
+        }
+        assertEquals(0, balanced.size());
+    }
+}
@@ -0,0 +1,99 @@
+package deque;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for WorkStealingDeque, including a stress test with an owner and
+ * several thieves that checks every element is taken exactly once.
+ *
+ * @author Yueqiao Chen
+ * @version 1.0
+ */
+public class WorkStealingDequeTest {
+
+    private static final int TIMEOUT = 200;
+    private static final int STRESS_TIMEOUT = 20000;
+    private WorkStealingDeque<Integer> deque;
+
+    @Before
+    public void setup() {
+        deque = new WorkStealingDeque<>();
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testOwnerIsLifoThievesAreFifo() {
+        for (int i = 0; i < 40; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(40, deque.size());
+        assertEquals(Integer.valueOf(39), deque.removeLast());
+        assertEquals(Integer.valueOf(0), deque.stealFirst());
+        assertEquals(Integer.valueOf(1), deque.stealFirst());
+        for (int i = 38; i >= 2; i--) {
+            assertEquals(Integer.valueOf(i), deque.pollLast());
+        }
+        assertNull(deque.pollLast());
+        assertNull(deque.stealFirst());
+        assertEquals(0, deque.size());
+
+        deque.addLast(40);
+        assertEquals(Integer.valueOf(40), deque.stealFirst());
+        assertNull(deque.pollLast());
+    }
+
+    @Test(timeout = TIMEOUT, expected = NoSuchElementException.class)
+    public void testRemoveFromEmpty() {
+        deque.removeLast();
+    }
+
+    @Test(timeout = TIMEOUT, expected = IllegalArgumentException.class)
+    public void testAddNull() {
+        deque.addLast(null);
+    }
+
+    @Test(timeout = STRESS_TIMEOUT)
+    public void testEachElementTakenOnce() throws InterruptedException {
+        int count = 200000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(count);
+        AtomicBoolean done = new AtomicBoolean();
+        Thread[] thieves = new Thread[3];
+        for (int i = 0; i < thieves.length; i++) {
+            thieves[i] = new Thread(() -> {
+                while (!done.get() || deque.size() > 0) {
+                    Integer stolen = deque.stealFirst();
+                    if (stolen == null) {
+                        Thread.yield();
+                    } else {
+                        seen.incrementAndGet(stolen);
+                    }
+                }
+            });
+            thieves[i].start();
+        }
+        for (int i = 0; i < count; i++) {
+            deque.addLast(i);
+            // take some back so the owner races the thieves for the last one
+            if (i % 3 == 0) {
+                Integer popped = deque.pollLast();
+                if (popped != null) {
+                    seen.incrementAndGet(popped);
+                }
+            }
+        }
+        done.set(true);
+        for (Thread thief : thieves) {
+            thief.join();
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals("element " + i, 1, seen.get(i));
+        }
+    }
+}